@@ -0,0 +1,60 @@
+package com.treinetic.taskmanager.benchmark;
+
+import com.treinetic.taskmanager.model.Task;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.User;
+import com.treinetic.taskmanager.security.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+/**
+ * Shared test data and pre-configured services for the benchmarks.
+ * <p>
+ * Services are wired by hand, the same way Spring would inject their {@code @Value} fields,
+ * so that benchmarks measure the code itself rather than application context startup.
+ * </p>
+ */
+final class Fixtures {
+    static final String JWT_SECRET = "dGhpcy1pcy1hLXZlcnktbG9uZy1iZW5jaG1hcmstc2VjcmV0LWtleS1mb3Itand0LXNpZ25pbmc";
+    static final long JWT_EXPIRATION = 86_400_000L;
+
+    /**
+     * Keeps the instrumented services recording their metrics, as they do in the application.
+     */
+    static final MeterRegistry METER_REGISTRY = new SimpleMeterRegistry();
+
+    private Fixtures() {
+    }
+
+    static JwtService jwtService() {
+        JwtService jwtService = new JwtService(METER_REGISTRY);
+        ReflectionTestUtils.setField(jwtService, "secretKey", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", JWT_EXPIRATION);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheMaxSize", 10_000L);
+        ReflectionTestUtils.setField(jwtService, "claimsCacheTtl", 300_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        return jwtService;
+    }
+
+    static User user() {
+        return User.builder()
+                .id(42L)
+                .username("benchmark-user")
+                .password("$2a$10$abcdefghijklmnopqrstuuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0")
+                .build();
+    }
+
+    static Task task(long id, User owner) {
+        return Task.builder()
+                .id(id)
+                .title("Prepare the quarterly report #" + id)
+                .description("Collect the numbers from every team and summarise them for the board meeting.")
+                .status(TaskStatus.values()[(int) (id % TaskStatus.values().length)])
+                .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(id))
+                .user(owner)
+                .build();
+    }
+}
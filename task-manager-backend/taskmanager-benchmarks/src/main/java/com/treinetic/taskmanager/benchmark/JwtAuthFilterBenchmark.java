@@ -0,0 +1,78 @@
+package com.treinetic.taskmanager.benchmark;
+
+import com.treinetic.taskmanager.model.User;
+import com.treinetic.taskmanager.security.JwtAuthFilter;
+import com.treinetic.taskmanager.security.JwtService;
+import com.treinetic.taskmanager.security.RevokedUserDenyList;
+import com.treinetic.taskmanager.security.UserDetailsServiceImpl;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures requests per second through {@link JwtAuthFilter} with mocked collaborators.
+ * <p>
+ * {@code statelessAuth=false} loads the user through {@link UserDetailsServiceImpl} on every
+ * request, as in production; {@code userLookupMicros} simulates the database round-trip of
+ * that lookup. {@code statelessAuth=true} builds the principal from the token claims and
+ * never calls the user lookup, so the latency parameter has no effect on it.
+ * </p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean statelessAuth;
+
+    @Param({"0", "250"})
+    public long userLookupMicros;
+
+    private JwtAuthFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtService jwtService = Fixtures.jwtService();
+        User user = Fixtures.user();
+        authorizationHeader = "Bearer " + jwtService.generateToken(user);
+
+        UserDetailsServiceImpl userDetailsService = Mockito.mock(UserDetailsServiceImpl.class);
+        long lookupNanos = TimeUnit.MICROSECONDS.toNanos(userLookupMicros);
+        Mockito.when(userDetailsService.loadUserByUsername(user.getUsername())).thenAnswer(invocation -> {
+            if (lookupNanos > 0) {
+                LockSupport.parkNanos(lookupNanos);
+            }
+            return user;
+        });
+        RevokedUserDenyList denyList = Mockito.mock(RevokedUserDenyList.class);
+
+        filter = new JwtAuthFilter(jwtService, userDetailsService, denyList, Fixtures.METER_REGISTRY);
+        ReflectionTestUtils.setField(filter, "statelessAuth", statelessAuth);
+        ReflectionTestUtils.invokeMethod(filter, "init");
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
@@ -0,0 +1,69 @@
+package com.treinetic.taskmanager.benchmark;
+
+import com.treinetic.taskmanager.model.User;
+import com.treinetic.taskmanager.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures JWT signing and the different ways a token can be verified.
+ * <ul>
+ *   <li>{@code parseCached} - {@link JwtService#parseToken(String)} for a token already in the claims cache</li>
+ *   <li>{@code parseVerified} - a full signature check with a pre-built parser, i.e. a cache miss</li>
+ *   <li>{@code parseRebuildingKeyAndParser} - decoding the key and building a parser for every parse,
+ *       as {@code JwtService} did before; the filter used to do this three times per request</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+    private JwtService jwtService;
+    private JwtParser parser;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = Fixtures.jwtService();
+        parser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(Fixtures.JWT_SECRET)))
+                .build();
+        user = Fixtures.user();
+        token = jwtService.generateToken(user);
+        jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public Claims parseCached() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims parseVerified() {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    @Benchmark
+    public Claims parseRebuildingKeyAndParser() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(Fixtures.JWT_SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
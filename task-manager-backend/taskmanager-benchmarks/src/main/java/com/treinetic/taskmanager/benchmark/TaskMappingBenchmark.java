@@ -0,0 +1,53 @@
+package com.treinetic.taskmanager.benchmark;
+
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.mapper.TaskMapper;
+import com.treinetic.taskmanager.model.Task;
+import com.treinetic.taskmanager.model.User;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-object cost of converting a {@link Task} to a {@link TaskResponse}.
+ * <ul>
+ *   <li>{@code taskMapper} - the hand-written {@link TaskMapper} used by the task service</li>
+ *   <li>{@code modelMapper} - the reflective {@link ModelMapper} mapping it replaced</li>
+ * </ul>
+ * Run with {@code -prof gc} to compare allocation per operation as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+    private TaskMapper taskMapper;
+    private ModelMapper modelMapper;
+    private User owner;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        taskMapper = new TaskMapper();
+        modelMapper = new ModelMapper();
+        owner = Fixtures.user();
+        task = Fixtures.task(1L, owner);
+        modelMapper.map(task, TaskResponse.class);
+    }
+
+    @Benchmark
+    public TaskResponse taskMapper() {
+        return taskMapper.toResponse(task, owner);
+    }
+
+    @Benchmark
+    public TaskResponse modelMapper() {
+        TaskResponse response = modelMapper.map(task, TaskResponse.class);
+        response.setUserId(task.getUser().getId());
+        response.setUsername(task.getUser().getUsername());
+        return response;
+    }
+}
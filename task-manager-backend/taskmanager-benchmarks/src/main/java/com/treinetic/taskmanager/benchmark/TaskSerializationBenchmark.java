@@ -0,0 +1,51 @@
+package com.treinetic.taskmanager.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.mapper.TaskMapper;
+import com.treinetic.taskmanager.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialisation of a {@code List<TaskResponse>} of different sizes.
+ * <p>
+ * The {@link ObjectMapper} is built with Spring's {@link Jackson2ObjectMapperBuilder},
+ * which applies the same defaults (Java time support, no timestamps for dates) as the
+ * one Spring Boot uses to write responses.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponse> tasks;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        TaskMapper taskMapper = new TaskMapper();
+        User owner = Fixtures.user();
+        tasks = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            tasks.add(taskMapper.toResponse(Fixtures.task(id, owner), owner));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+}
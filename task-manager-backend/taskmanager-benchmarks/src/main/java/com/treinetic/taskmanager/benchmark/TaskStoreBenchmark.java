@@ -0,0 +1,145 @@
+package com.treinetic.taskmanager.benchmark;
+
+import com.treinetic.taskmanager.TaskmanagerApplication;
+import com.treinetic.taskmanager.benchmark.storage.JpaTaskStore;
+import com.treinetic.taskmanager.benchmark.storage.TaskStore;
+import com.treinetic.taskmanager.benchmark.storage.memory.InMemoryTaskStore;
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.dto.TaskSummaryResponse;
+import com.treinetic.taskmanager.mapper.TaskMapper;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.repository.TaskRepository;
+import com.treinetic.taskmanager.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the storage engines behind {@link TaskStore} on the same seeded data.
+ * <ul>
+ *   <li>{@code jpa} - {@link JpaTaskStore} on an in-memory H2 database, booted with the application's own configuration</li>
+ *   <li>{@code memory} - {@link InMemoryTaskStore} with its log and snapshots in a temporary directory</li>
+ * </ul>
+ * H2 runs in this JVM, so the {@code jpa} numbers leave out the network round trips a MySQL
+ * server would add and flatter the relational engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskStoreBenchmark {
+    private static final int USERS = 100;
+    private static final int TASKS_PER_USER = 100;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"jpa", "memory"})
+    public String engine;
+
+    private ConfigurableApplicationContext context;
+    private Path directory;
+    private TaskStore store;
+    private long[] userIds;
+    private long[][] taskIds;
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (engine.equals("jpa")) {
+            context = new SpringApplicationBuilder(TaskmanagerApplication.class).run(
+                    "--server.port=0",
+                    "--spring.main.banner-mode=off",
+                    "--logging.level.root=WARN",
+                    "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                    "--spring.jpa.hibernate.ddl-auto=create-drop",
+                    "--spring.jpa.show-sql=false",
+                    "--app.search.rebuild-on-startup=false",
+                    "--app.jwt.secret=" + Fixtures.JWT_SECRET);
+            store = new JpaTaskStore(context.getBean(TaskRepository.class), context.getBean(UserRepository.class),
+                    context.getBean(TaskMapper.class), context.getBean(PlatformTransactionManager.class));
+        } else {
+            directory = Files.createTempDirectory("task-store-benchmark");
+            store = new InMemoryTaskStore(InMemoryTaskStore.Settings.defaults(directory));
+        }
+
+        userIds = new long[USERS];
+        taskIds = new long[USERS][TASKS_PER_USER];
+        TaskStatus[] statuses = TaskStatus.values();
+        for (int u = 0; u < USERS; u++) {
+            userIds[u] = store.createUser("benchmark-" + u, "{noop}password").getId();
+            for (int t = 0; t < TASKS_PER_USER; t++) {
+                taskIds[u][t] = store.createTask(userIds[u],
+                        request("Task " + t, statuses[t % statuses.length])).getId();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (store instanceof InMemoryTaskStore memory) {
+            memory.close();
+            FileSystemUtils.deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    public Optional<TaskResponse> findTask() {
+        int user = nextUser();
+        return store.findTask(userIds[user], taskIds[user][next / USERS % TASKS_PER_USER]);
+    }
+
+    @Benchmark
+    public List<TaskResponse> findTasks() {
+        return store.findTasks(userIds[nextUser()], null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public TaskSummaryResponse countByStatus() {
+        return store.countByStatus(userIds[nextUser()]);
+    }
+
+    @Benchmark
+    public Optional<TaskResponse> updateTask() {
+        int user = nextUser();
+        return store.updateTask(userIds[user], taskIds[user][next / USERS % TASKS_PER_USER],
+                request("Updated " + next, TaskStatus.IN_PROGRESS), null);
+    }
+
+    @Benchmark
+    public TaskResponse createTask() {
+        return store.createTask(userIds[nextUser()], request("Created " + next, TaskStatus.TO_DO));
+    }
+
+    /**
+     * Walks the users round-robin, so every call touches a different user's tasks.
+     */
+    private int nextUser() {
+        return ++next % USERS;
+    }
+
+    private static TaskRequest request(String title, TaskStatus status) {
+        return TaskRequest.builder()
+                .title(title)
+                .description("A task used by the storage benchmark")
+                .status(status)
+                .build();
+    }
+}
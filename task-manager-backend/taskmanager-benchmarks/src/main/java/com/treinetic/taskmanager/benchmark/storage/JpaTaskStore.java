@@ -0,0 +1,140 @@
+package com.treinetic.taskmanager.benchmark.storage;
+
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.dto.TaskStatusCount;
+import com.treinetic.taskmanager.dto.TaskSummaryResponse;
+import com.treinetic.taskmanager.exception.BadRequestException;
+import com.treinetic.taskmanager.mapper.TaskMapper;
+import com.treinetic.taskmanager.model.Task;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.User;
+import com.treinetic.taskmanager.repository.TaskRepository;
+import com.treinetic.taskmanager.repository.TaskSpecifications;
+import com.treinetic.taskmanager.repository.UserRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A {@link TaskStore} on the relational tables, through the Spring Data repositories.
+ * <p>
+ * Each operation runs in its own transaction. Reads use the same DTO projections as
+ * {@code TaskService}; writes go through the entities, so creation and update timestamps and
+ * the {@code @Version} counter are maintained by Hibernate.
+ * </p>
+ *
+ * <p>
+ * This is the baseline the in-memory engine is measured against. Unlike {@code TaskService}
+ * it does not maintain the sync watermarks, tombstones or summary counters, so it must not
+ * write to a database that {@code TaskService} serves.
+ * </p>
+ */
+public class JpaTaskStore implements TaskStore {
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "id");
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final TaskMapper taskMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public JpaTaskStore(TaskRepository taskRepository, UserRepository userRepository, TaskMapper taskMapper,
+                        PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.taskMapper = taskMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public User createUser(String username, String encodedPassword) {
+        return transactionTemplate.execute(status -> {
+            if (userRepository.findByUsername(username).isPresent()) {
+                throw new BadRequestException("Username already exists");
+            }
+            return userRepository.save(User.builder().username(username).password(encodedPassword).build());
+        });
+    }
+
+    @Override
+    public Optional<User> findUserByUsername(String username) {
+        return userRepository.findByUsername(username);
+    }
+
+    /**
+     * @throws BadRequestException if the user does not exist
+     */
+    @Override
+    public TaskResponse createTask(Long userId, TaskRequest request) {
+        return transactionTemplate.execute(status -> {
+            User owner = userRepository.findById(userId)
+                    .orElseThrow(() -> new BadRequestException("User not found"));
+            Task task = taskRepository.saveAndFlush(taskMapper.toEntity(request, owner));
+            return taskMapper.toResponse(task, owner);
+        });
+    }
+
+    @Override
+    public Optional<TaskResponse> findTask(Long userId, Long taskId) {
+        return taskRepository.findResponseByIdAndUserId(taskId, userId);
+    }
+
+    @Override
+    public Optional<TaskResponse> updateTask(Long userId, Long taskId, TaskRequest request, Long expectedVersion) {
+        return transactionTemplate.execute(status -> taskRepository.findById(taskId)
+                .filter(task -> task.getUser().getId().equals(userId))
+                .filter(task -> expectedVersion == null || task.getVersion().equals(expectedVersion))
+                .map(task -> {
+                    task.setTitle(request.getTitle());
+                    task.setDescription(request.getDescription());
+                    task.setStatus(request.getStatus());
+                    Task saved = taskRepository.saveAndFlush(task);
+                    return taskMapper.toResponse(saved, saved.getUser());
+                }));
+    }
+
+    @Override
+    public boolean deleteTask(Long userId, Long taskId) {
+        Integer deleted = transactionTemplate.execute(status -> taskRepository.deleteByIdAndUserId(taskId, userId));
+        return deleted != null && deleted > 0;
+    }
+
+    @Override
+    public List<TaskResponse> findTasks(Long userId, Long beforeId, int limit) {
+        Specification<Task> spec = TaskSpecifications.ownedBy(userId);
+        if (beforeId != null) {
+            spec = spec.and(idBelow(beforeId));
+        }
+        return taskRepository.findResponses(spec, NEWEST_FIRST, limit);
+    }
+
+    @Override
+    public TaskSummaryResponse countByStatus(Long userId) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatusCount count : taskRepository.countByStatusForUsers(List.of(userId))) {
+            counts.put(count.status(), count.count());
+        }
+        long toDo = counts.getOrDefault(TaskStatus.TO_DO, 0L);
+        long inProgress = counts.getOrDefault(TaskStatus.IN_PROGRESS, 0L);
+        long done = counts.getOrDefault(TaskStatus.DONE, 0L);
+        return TaskSummaryResponse.builder()
+                .toDo(toDo)
+                .inProgress(inProgress)
+                .done(done)
+                .total(toDo + inProgress + done)
+                .build();
+    }
+
+    /**
+     * Restricts the query to tasks with an ID lower than the given one.
+     */
+    private static Specification<Task> idBelow(Long id) {
+        return (root, query, cb) -> cb.lessThan(root.get("id"), id);
+    }
+}
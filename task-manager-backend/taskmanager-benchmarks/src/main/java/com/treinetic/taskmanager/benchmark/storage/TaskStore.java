@@ -0,0 +1,70 @@
+package com.treinetic.taskmanager.benchmark.storage;
+
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.dto.TaskSummaryResponse;
+import com.treinetic.taskmanager.model.User;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The storage operations on users and their tasks, independent of the engine holding them.
+ * <p>
+ * Every task operation is scoped to its owner: a task of another user behaves as if it did
+ * not exist. Implementations are thread-safe.
+ * </p>
+ *
+ * <p>
+ * Implementations:
+ * <ul>
+ *   <li>{@link JpaTaskStore} - the relational tables, through {@code TaskRepository} and {@code UserRepository}</li>
+ *   <li>{@link com.treinetic.taskmanager.benchmark.storage.memory.InMemoryTaskStore} - concurrent in-memory maps,
+ *   made durable by a memory-mapped append-only log and periodic snapshots</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * This abstraction exists for {@code TaskStoreBenchmark} only. {@code TaskService} does not use
+ * it and still requires the relational database: it relies on SQL for sync watermarks,
+ * tombstones, summary counters, filtered search and export, so serving the API without MySQL
+ * was descoped.
+ * </p>
+ */
+public interface TaskStore {
+
+    /**
+     * Creates a user with an already encoded password.
+     *
+     * @throws com.treinetic.taskmanager.exception.BadRequestException if the username is taken
+     */
+    User createUser(String username, String encodedPassword);
+
+    Optional<User> findUserByUsername(String username);
+
+    TaskResponse createTask(Long userId, TaskRequest request);
+
+    Optional<TaskResponse> findTask(Long userId, Long taskId);
+
+    /**
+     * Replaces the editable fields of the task and increments its version.
+     *
+     * @param expectedVersion the version the task must still have, or {@code null} to update it unconditionally
+     * @return the updated task; empty if it does not exist or no longer has the expected version
+     */
+    Optional<TaskResponse> updateTask(Long userId, Long taskId, TaskRequest request, Long expectedVersion);
+
+    /**
+     * @return whether the task existed and was deleted
+     */
+    boolean deleteTask(Long userId, Long taskId);
+
+    /**
+     * Returns up to {@code limit} of the user's tasks, newest (highest ID) first.
+     *
+     * @param beforeId only return tasks with a lower ID, for the next page; {@code null} for the first page
+     */
+    List<TaskResponse> findTasks(Long userId, Long beforeId, int limit);
+
+    TaskSummaryResponse countByStatus(Long userId);
+}
@@ -0,0 +1,190 @@
+package com.treinetic.taskmanager.benchmark.storage.memory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * A file of records that are only ever appended, written through a memory mapping.
+ * <p>
+ * The file is mapped in regions of a fixed size, so an append is a copy into memory rather
+ * than a system call. A record written to the mapping reaches the page cache at once and so
+ * survives the process crashing; {@link #force} additionally flushes it to the disk, so that
+ * it survives the machine crashing too.
+ * </p>
+ *
+ * <p>
+ * The file starts with a magic number and the region size. Each record is framed as its
+ * length, the CRC32C of its bytes and the bytes themselves. A record never spans two regions:
+ * if it does not fit in the rest of the current one, a padding marker is written and the
+ * record goes to the start of the next. The space past the last record is zero, which reads
+ * as the end of the file, so {@link #read} stops at the first frame that is empty, torn or
+ * corrupt and a crash loses at most the records that were not yet complete.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe; the caller serializes appends.
+ * </p>
+ */
+final class AppendLog implements Closeable {
+    private static final int MAGIC = 0x544D4C47;
+    private static final int FILE_HEADER = 8;
+    private static final int FRAME_HEADER = 8;
+    private static final int PADDING = -1;
+
+    private final FileChannel channel;
+    private final int regionSize;
+    private final CRC32C crc = new CRC32C();
+    private MappedByteBuffer region;
+    private long regionStart;
+
+    private AppendLog(FileChannel channel, int regionSize) throws IOException {
+        this.channel = channel;
+        this.regionSize = regionSize;
+        this.region = channel.map(FileChannel.MapMode.READ_WRITE, 0, regionSize);
+        region.putInt(MAGIC).putInt(regionSize);
+    }
+
+    /**
+     * Creates a new, empty log.
+     *
+     * @param regionSize bytes mapped at a time; also the upper bound on the size of a record
+     * @throws IOException if the file already exists or cannot be created
+     */
+    static AppendLog create(Path file, int regionSize) throws IOException {
+        FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new AppendLog(channel, regionSize);
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * Appends the remaining bytes of the record.
+     *
+     * @throws IllegalArgumentException if the record is larger than a region
+     * @throws UncheckedIOException     if the next region cannot be mapped, e.g. because the disk is full
+     */
+    void append(ByteBuffer record) {
+        int length = record.remaining();
+        if (FRAME_HEADER + length > regionSize - FILE_HEADER) {
+            throw new IllegalArgumentException("Record of " + length + " bytes does not fit in a log region");
+        }
+        if (region.remaining() < FRAME_HEADER + length) {
+            if (region.remaining() >= Integer.BYTES) {
+                region.putInt(PADDING);
+            }
+            nextRegion();
+        }
+        crc.reset();
+        crc.update(record.duplicate());
+        region.putInt(length).putInt((int) crc.getValue()).put(record);
+    }
+
+    /**
+     * @return the number of bytes written, including padding and headers
+     */
+    long size() {
+        return regionStart + region.position();
+    }
+
+    /**
+     * Flushes everything appended so far to the disk.
+     */
+    void force() {
+        region.force();
+    }
+
+    /**
+     * Flushes the log and closes its file. The mapping is released once it is garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private void nextRegion() {
+        region.force();
+        regionStart += regionSize;
+        try {
+            region = channel.map(FileChannel.MapMode.READ_WRITE, regionStart, regionSize);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not extend the log", ex);
+        }
+    }
+
+    /**
+     * Passes every intact record of the log to the consumer, in the order they were appended.
+     *
+     * @return the number of records read
+     * @throws IOException if the file cannot be read or is not a log
+     */
+    static long read(Path file, Consumer<ByteBuffer> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(FRAME_HEADER);
+            if (readFully(channel, header, 0) < FILE_HEADER || header.getInt(0) != MAGIC) {
+                throw new IOException(file + " is not a task store log");
+            }
+            long regionSize = header.getInt(4);
+            long fileSize = channel.size();
+            long position = FILE_HEADER;
+            long records = 0;
+            CRC32C crc = new CRC32C();
+            while (position < fileSize) {
+                long regionEnd = (position / regionSize + 1) * regionSize;
+                if (regionEnd - position < FRAME_HEADER) {
+                    position = regionEnd;
+                    continue;
+                }
+                header.clear();
+                if (readFully(channel, header, position) < FRAME_HEADER) {
+                    break;
+                }
+                int length = header.getInt(0);
+                if (length == PADDING) {
+                    position = regionEnd;
+                    continue;
+                }
+                if (length <= 0 || position + FRAME_HEADER + length > regionEnd) {
+                    break;
+                }
+                ByteBuffer record = ByteBuffer.allocate(length);
+                if (readFully(channel, record, position + FRAME_HEADER) < length) {
+                    break;
+                }
+                crc.reset();
+                crc.update(record.array(), 0, length);
+                if ((int) crc.getValue() != header.getInt(4)) {
+                    break;
+                }
+                consumer.accept(record.flip());
+                records++;
+                position += FRAME_HEADER + length;
+            }
+            return records;
+        }
+    }
+
+    private static int readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + total);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+}
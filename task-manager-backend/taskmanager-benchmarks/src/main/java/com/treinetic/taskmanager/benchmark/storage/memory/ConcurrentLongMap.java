@@ -0,0 +1,151 @@
+package com.treinetic.taskmanager.benchmark.storage.memory;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe map from {@code long} keys to objects, split into independently locked segments.
+ * <p>
+ * Each segment is a {@link LongHashMap} guarded by its own {@link StampedLock}, so readers of a
+ * segment share it and writers only exclude each other when their keys fall into the same
+ * segment. {@link #compute} runs its function under the segment's write lock, which makes a
+ * read-modify-write of one key atomic.
+ * </p>
+ *
+ * @param <V> the type of the values
+ */
+final class ConcurrentLongMap<V> {
+    private final LongHashMap<V>[] segments;
+    private final StampedLock[] locks;
+    private final int shift;
+
+    /**
+     * Computes the new value of a key from its current value.
+     */
+    @FunctionalInterface
+    interface Remapping<V> {
+        /**
+         * @param key     the key
+         * @param current the current value, or {@code null} if the key is absent
+         * @return the new value, or {@code null} to remove the key
+         */
+        V apply(long key, V current);
+    }
+
+    /**
+     * @param concurrency the number of writers expected at once; rounded up to a power of two segments
+     */
+    @SuppressWarnings("unchecked")
+    ConcurrentLongMap(int concurrency) {
+        int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, concurrency) - 1));
+        int count = 1 << bits;
+        segments = new LongHashMap[count];
+        locks = new StampedLock[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new LongHashMap<>();
+            locks[i] = new StampedLock();
+        }
+        shift = 64 - bits;
+    }
+
+    V get(long key) {
+        int i = segment(key);
+        long stamp = locks[i].readLock();
+        try {
+            return segments[i].get(key);
+        } finally {
+            locks[i].unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the value previously mapped to the key, or {@code null}
+     */
+    V put(long key, V value) {
+        int i = segment(key);
+        long stamp = locks[i].writeLock();
+        try {
+            return segments[i].put(key, value);
+        } finally {
+            locks[i].unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return the value the key was mapped to, or {@code null}
+     */
+    V remove(long key) {
+        int i = segment(key);
+        long stamp = locks[i].writeLock();
+        try {
+            return segments[i].remove(key);
+        } finally {
+            locks[i].unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Atomically replaces the value of a key with the one computed from it.
+     * <p>
+     * The function holds the segment's write lock while it runs, so it must be short and must
+     * not access this map.
+     * </p>
+     *
+     * @return the new value, or {@code null} if the key was removed or stayed absent
+     */
+    V compute(long key, Remapping<V> remapping) {
+        int i = segment(key);
+        long stamp = locks[i].writeLock();
+        try {
+            LongHashMap<V> segment = segments[i];
+            V current = segment.get(key);
+            V updated = remapping.apply(key, current);
+            if (updated != null) {
+                segment.put(key, updated);
+            } else if (current != null) {
+                segment.remove(key);
+            }
+            return updated;
+        } finally {
+            locks[i].unlockWrite(stamp);
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (int i = 0; i < segments.length; i++) {
+            long stamp = locks[i].readLock();
+            try {
+                size += segments[i].size();
+            } finally {
+                locks[i].unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Passes every entry to the action, one segment at a time.
+     * <p>
+     * Each segment is read-locked while its entries are visited, but the map as a whole is not:
+     * entries of other segments may change in the meantime.
+     * </p>
+     */
+    void forEach(LongObjectConsumer<? super V> action) {
+        for (int i = 0; i < segments.length; i++) {
+            long stamp = locks[i].readLock();
+            try {
+                segments[i].forEach(action);
+            } finally {
+                locks[i].unlockRead(stamp);
+            }
+        }
+    }
+
+    /**
+     * Picks the segment from the top bits of the mixed key, which barely affect the slot
+     * {@link LongHashMap} picks, so keys of one segment still spread over its whole table.
+     */
+    private int segment(long key) {
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+}
@@ -0,0 +1,486 @@
+package com.treinetic.taskmanager.benchmark.storage.memory;
+
+import com.treinetic.taskmanager.benchmark.storage.TaskStore;
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.dto.TaskSummaryResponse;
+import com.treinetic.taskmanager.exception.BadRequestException;
+import com.treinetic.taskmanager.model.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * A {@link TaskStore} that holds all users and tasks in memory and makes them durable with an
+ * append-only write log and periodic snapshots.
+ * <p>
+ * Tasks and users are kept in {@link ConcurrentLongMap}s keyed by their primitive ID, and each
+ * user's task IDs in a sorted {@code long[]} that is copied on write, so listing a user's tasks
+ * newest first is a binary search and a backwards walk without any locking. Records are
+ * immutable and replaced as a whole.
+ * </p>
+ *
+ * <p>
+ * Every change is appended to the {@link AppendLog} of the current generation while the key's
+ * segment is still locked, so the log holds the changes of each key in the order they were
+ * applied. A background thread {@linkplain AppendLog#force forces} the log to the disk every
+ * {@code flushInterval}, which bounds how much a machine crash can lose; a process crash loses
+ * nothing that was acknowledged. Once the log has grown past {@code snapshotThreshold} bytes,
+ * the same thread starts a new log generation and writes every user and task to a snapshot of
+ * that generation while writes go on.
+ * </p>
+ *
+ * <p>
+ * The snapshot is therefore fuzzy: it may hold some changes that are also in the new log. That
+ * is harmless because each record carries the full state of a user or task, or a task's
+ * deletion, so replaying the new log over the snapshot ends in the same state as the live maps.
+ * A snapshot starts with the highest IDs handed out, so that the ID of a task whose deletion
+ * only the older logs recorded is not handed out again.
+ * On startup the newest complete snapshot is loaded, the logs of its generation and later are
+ * replayed, and a new generation is started; files older than the snapshot are deleted.
+ * </p>
+ *
+ * <p>
+ * Appends to the log are serialized, like the writes of a database's own write-ahead log.
+ * Reads take only the read lock of one map segment.
+ * </p>
+ */
+public class InMemoryTaskStore implements TaskStore, Closeable {
+    private static final Logger log = LoggerFactory.getLogger(InMemoryTaskStore.class);
+    private static final Pattern FILE_NAME = Pattern.compile("(log|snapshot)-(\\d+)\\.bin");
+    private static final long[] NO_TASKS = new long[0];
+
+    private final Settings settings;
+    private final ConcurrentLongMap<StoredUser> users;
+    private final ConcurrentLongMap<StoredTask> tasks;
+    private final ConcurrentLongMap<long[]> taskIdsByUser;
+    private final ConcurrentHashMap<String, Long> userIdsByUsername = new ConcurrentHashMap<>();
+    private final AtomicLong lastUserId = new AtomicLong();
+    private final AtomicLong lastTaskId = new AtomicLong();
+    private final Object logLock = new Object();
+    private final ScheduledExecutorService maintenance;
+    private AppendLog writeLog;
+    private long generation;
+
+    /**
+     * Where and how the store keeps its files.
+     *
+     * @param directory         the directory holding the logs and snapshots; created if missing
+     * @param logRegionSize     bytes of the log mapped at a time
+     * @param snapshotThreshold log size in bytes past which a snapshot is taken
+     * @param flushInterval     how often the log is forced to the disk
+     */
+    public record Settings(Path directory, int logRegionSize, long snapshotThreshold, Duration flushInterval) {
+
+        /**
+         * 16 MiB log regions, a snapshot every 256 MiB of log and a flush every 100 ms.
+         */
+        public static Settings defaults(Path directory) {
+            return new Settings(directory, 16 << 20, 256L << 20, Duration.ofMillis(100));
+        }
+    }
+
+    /**
+     * Opens the store in the settings' directory, recovering whatever it holds.
+     *
+     * @throws UncheckedIOException if the files cannot be read or the new log cannot be created
+     */
+    public InMemoryTaskStore(Settings settings) {
+        this.settings = settings;
+        int concurrency = Runtime.getRuntime().availableProcessors() * 4;
+        this.users = new ConcurrentLongMap<>(concurrency);
+        this.tasks = new ConcurrentLongMap<>(concurrency);
+        this.taskIdsByUser = new ConcurrentLongMap<>(concurrency);
+        try {
+            recover();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open the task store in " + settings.directory(), ex);
+        }
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-store-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = settings.flushInterval().toMillis();
+        maintenance.scheduleWithFixedDelay(this::maintain, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public User createUser(String username, String encodedPassword) {
+        long id = lastUserId.incrementAndGet();
+        if (userIdsByUsername.putIfAbsent(username, id) != null) {
+            throw new BadRequestException("Username already exists");
+        }
+        StoredUser user = new StoredUser(id, username, encodedPassword, null);
+        users.compute(id, (key, current) -> logged(user, RecordCodec.user(user)));
+        return toUser(user);
+    }
+
+    @Override
+    public Optional<User> findUserByUsername(String username) {
+        Long id = userIdsByUsername.get(username);
+        StoredUser user = id == null ? null : users.get(id);
+        return Optional.ofNullable(user).map(InMemoryTaskStore::toUser);
+    }
+
+    /**
+     * @throws BadRequestException if the user does not exist
+     */
+    @Override
+    public TaskResponse createTask(Long userId, TaskRequest request) {
+        StoredUser owner = users.get(userId);
+        if (owner == null) {
+            throw new BadRequestException("User not found");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        StoredTask task = new StoredTask(lastTaskId.incrementAndGet(), userId, request.getTitle(),
+                request.getDescription(), request.getStatus(), now, now, 0);
+        tasks.compute(task.id(), (key, current) -> logged(task, RecordCodec.task(task)));
+        taskIdsByUser.compute(userId, (key, ids) -> withTask(ids, task.id()));
+        return toResponse(task, owner);
+    }
+
+    @Override
+    public Optional<TaskResponse> findTask(Long userId, Long taskId) {
+        StoredTask task = tasks.get(taskId);
+        if (task == null || task.userId() != userId) {
+            return Optional.empty();
+        }
+        return Optional.of(toResponse(task, users.get(userId)));
+    }
+
+    @Override
+    public Optional<TaskResponse> updateTask(Long userId, Long taskId, TaskRequest request, Long expectedVersion) {
+        StoredTask[] updated = new StoredTask[1];
+        tasks.compute(taskId, (key, current) -> {
+            if (current == null || current.userId() != userId
+                    || (expectedVersion != null && current.version() != expectedVersion)) {
+                return current;
+            }
+            StoredTask task = new StoredTask(key, userId, request.getTitle(), request.getDescription(),
+                    request.getStatus(), current.createdAt(), LocalDateTime.now(), current.version() + 1);
+            updated[0] = task;
+            return logged(task, RecordCodec.task(task));
+        });
+        return Optional.ofNullable(updated[0]).map(task -> toResponse(task, users.get(userId)));
+    }
+
+    @Override
+    public boolean deleteTask(Long userId, Long taskId) {
+        boolean[] deleted = new boolean[1];
+        tasks.compute(taskId, (key, current) -> {
+            if (current == null || current.userId() != userId) {
+                return current;
+            }
+            deleted[0] = true;
+            return logged(null, RecordCodec.taskDeleted(key));
+        });
+        if (deleted[0]) {
+            taskIdsByUser.compute(userId, (key, ids) -> withoutTask(ids, taskId));
+        }
+        return deleted[0];
+    }
+
+    @Override
+    public List<TaskResponse> findTasks(Long userId, Long beforeId, int limit) {
+        long[] ids = taskIds(userId);
+        int end = beforeId == null ? ids.length : insertionPoint(ids, beforeId);
+        StoredUser owner = users.get(userId);
+        List<TaskResponse> page = new ArrayList<>(Math.min(limit, end));
+        for (int i = end - 1; i >= 0 && page.size() < limit; i--) {
+            StoredTask task = tasks.get(ids[i]);
+            // Deleted since the index was read.
+            if (task != null) {
+                page.add(toResponse(task, owner));
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public TaskSummaryResponse countByStatus(Long userId) {
+        long[] counts = new long[3];
+        for (long id : taskIds(userId)) {
+            StoredTask task = tasks.get(id);
+            if (task != null) {
+                counts[task.status().ordinal()]++;
+            }
+        }
+        return TaskSummaryResponse.builder()
+                .toDo(counts[0])
+                .inProgress(counts[1])
+                .done(counts[2])
+                .total(counts[0] + counts[1] + counts[2])
+                .build();
+    }
+
+    /**
+     * Writes a snapshot of the current state and deletes the files it makes obsolete.
+     *
+     * @throws UncheckedIOException if the snapshot cannot be written; the logs are kept then
+     */
+    public synchronized void snapshot() {
+        long snapshotGeneration;
+        synchronized (logLock) {
+            snapshotGeneration = generation + 1;
+            AppendLog next = openLog(snapshotGeneration);
+            closeLog(writeLog);
+            writeLog = next;
+            generation = snapshotGeneration;
+        }
+        try {
+            Path snapshot = file("snapshot", snapshotGeneration);
+            Path temporary = settings.directory().resolve(snapshot.getFileName() + ".tmp");
+            Files.deleteIfExists(temporary);
+            try (AppendLog out = AppendLog.create(temporary, settings.logRegionSize())) {
+                // Read after the switch to the new log, which records any ID handed out since.
+                out.append(RecordCodec.lastIds(lastUserId.get(), lastTaskId.get()));
+                users.forEach((id, user) -> out.append(RecordCodec.user(user)));
+                tasks.forEach((id, task) -> out.append(RecordCodec.task(task)));
+            }
+            Files.move(temporary, snapshot, StandardCopyOption.ATOMIC_MOVE);
+            deleteBefore(snapshotGeneration);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not write a snapshot of the task store", ex);
+        }
+    }
+
+    /**
+     * Stops the background flushing and closes the log after forcing it to the disk.
+     */
+    @Override
+    public void close() {
+        maintenance.shutdown();
+        try {
+            maintenance.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (logLock) {
+            closeLog(writeLog);
+        }
+    }
+
+    /**
+     * Appends the record to the log and returns the value to store, for use inside {@code compute}.
+     */
+    private <T> T logged(T value, ByteBuffer record) {
+        synchronized (logLock) {
+            writeLog.append(record);
+        }
+        return value;
+    }
+
+    private void maintain() {
+        try {
+            long size;
+            synchronized (logLock) {
+                writeLog.force();
+                size = writeLog.size();
+            }
+            if (size >= settings.snapshotThreshold()) {
+                snapshot();
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Task store maintenance failed", ex);
+        }
+    }
+
+    private void recover() throws IOException {
+        Files.createDirectories(settings.directory());
+        long latestSnapshot = 0;
+        long latestGeneration = 0;
+        List<Long> logs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(settings.directory())) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    Files.delete(path);
+                    continue;
+                }
+                Matcher matcher = FILE_NAME.matcher(name);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                long fileGeneration = Long.parseLong(matcher.group(2));
+                latestGeneration = Math.max(latestGeneration, fileGeneration);
+                if (matcher.group(1).equals("snapshot")) {
+                    latestSnapshot = Math.max(latestSnapshot, fileGeneration);
+                } else {
+                    logs.add(fileGeneration);
+                }
+            }
+        }
+
+        RecordCodec.Handler replay = new Replay();
+        long records = 0;
+        if (latestSnapshot > 0) {
+            records += AppendLog.read(file("snapshot", latestSnapshot), record -> RecordCodec.decode(record, replay));
+        }
+        logs.sort(null);
+        for (long logGeneration : logs) {
+            if (logGeneration >= latestSnapshot) {
+                records += AppendLog.read(file("log", logGeneration), record -> RecordCodec.decode(record, replay));
+            }
+        }
+        tasks.forEach((id, task) -> taskIdsByUser.compute(task.userId(), (key, ids) -> withTask(ids, id)));
+        if (latestSnapshot > 0) {
+            deleteBefore(latestSnapshot);
+        }
+
+        generation = latestGeneration + 1;
+        writeLog = AppendLog.create(file("log", generation), settings.logRegionSize());
+        log.info("Task store recovered {} users and {} tasks from {} records in {}",
+                users.size(), tasks.size(), records, settings.directory());
+    }
+
+    private void deleteBefore(long snapshotGeneration) throws IOException {
+        try (Stream<Path> files = Files.list(settings.directory())) {
+            for (Path path : (Iterable<Path>) files::iterator) {
+                Matcher matcher = FILE_NAME.matcher(path.getFileName().toString());
+                if (matcher.matches() && Long.parseLong(matcher.group(2)) < snapshotGeneration) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    private Path file(String kind, long fileGeneration) {
+        return settings.directory().resolve(kind + "-" + fileGeneration + ".bin");
+    }
+
+    private AppendLog openLog(long logGeneration) {
+        try {
+            return AppendLog.create(file("log", logGeneration), settings.logRegionSize());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not start a new task store log", ex);
+        }
+    }
+
+    private static void closeLog(AppendLog appendLog) {
+        try {
+            appendLog.close();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not close the task store log", ex);
+        }
+    }
+
+    private long[] taskIds(long userId) {
+        long[] ids = taskIdsByUser.get(userId);
+        return ids == null ? NO_TASKS : ids;
+    }
+
+    /**
+     * Returns a copy of the sorted IDs with the given one inserted in order.
+     */
+    private static long[] withTask(long[] ids, long taskId) {
+        if (ids == null) {
+            return new long[]{taskId};
+        }
+        int index = insertionPoint(ids, taskId);
+        if (index < ids.length && ids[index] == taskId) {
+            return ids;
+        }
+        long[] copy = new long[ids.length + 1];
+        System.arraycopy(ids, 0, copy, 0, index);
+        copy[index] = taskId;
+        System.arraycopy(ids, index, copy, index + 1, ids.length - index);
+        return copy;
+    }
+
+    /**
+     * Returns a copy of the sorted IDs without the given one, or {@code null} if none are left.
+     */
+    private static long[] withoutTask(long[] ids, long taskId) {
+        if (ids == null) {
+            return null;
+        }
+        int index = Arrays.binarySearch(ids, taskId);
+        if (index < 0) {
+            return ids;
+        }
+        if (ids.length == 1) {
+            return null;
+        }
+        long[] copy = new long[ids.length - 1];
+        System.arraycopy(ids, 0, copy, 0, index);
+        System.arraycopy(ids, index + 1, copy, index, ids.length - index - 1);
+        return copy;
+    }
+
+    /**
+     * Returns the index of the first ID not lower than the given one.
+     */
+    private static int insertionPoint(long[] ids, long taskId) {
+        int index = Arrays.binarySearch(ids, taskId);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    private static User toUser(StoredUser user) {
+        return User.builder()
+                .id(user.id())
+                .username(user.username())
+                .password(user.password())
+                .revokedAt(user.revokedAt())
+                .build();
+    }
+
+    private static TaskResponse toResponse(StoredTask task, StoredUser owner) {
+        return new TaskResponse(task.id(), task.title(), task.description(), task.status(), task.createdAt(),
+                task.updatedAt(), task.version(), task.userId(), owner == null ? null : owner.username());
+    }
+
+    /**
+     * Applies recovered records to the maps and advances the ID counters past every ID seen.
+     */
+    private final class Replay implements RecordCodec.Handler {
+        @Override
+        public void user(StoredUser user) {
+            StoredUser previous = users.put(user.id(), user);
+            if (previous != null && !previous.username().equals(user.username())) {
+                userIdsByUsername.remove(previous.username());
+            }
+            userIdsByUsername.put(user.username(), user.id());
+            lastUserId.accumulateAndGet(user.id(), Math::max);
+        }
+
+        @Override
+        public void task(StoredTask task) {
+            tasks.put(task.id(), task);
+            lastTaskId.accumulateAndGet(task.id(), Math::max);
+        }
+
+        @Override
+        public void taskDeleted(long taskId) {
+            tasks.remove(taskId);
+            lastTaskId.accumulateAndGet(taskId, Math::max);
+        }
+
+        @Override
+        public void lastIds(long userId, long taskId) {
+            lastUserId.accumulateAndGet(userId, Math::max);
+            lastTaskId.accumulateAndGet(taskId, Math::max);
+        }
+    }
+}
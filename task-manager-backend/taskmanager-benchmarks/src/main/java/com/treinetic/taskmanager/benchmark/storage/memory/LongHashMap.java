@@ -0,0 +1,152 @@
+package com.treinetic.taskmanager.benchmark.storage.memory;
+
+/**
+ * Open-addressing hash map from {@code long} keys to objects, without boxing the keys.
+ * <p>
+ * Keys are stored in a flat {@code long[]} probed linearly, so a lookup touches one or two
+ * cache lines instead of following a chain of {@code Long} and entry objects. Removal shifts
+ * the following entries back instead of leaving tombstones, so lookups stay short however
+ * often keys are removed. Key {@code 0} marks a free slot and cannot be stored; entity IDs
+ * start at 1.
+ * </p>
+ *
+ * <p>
+ * Not thread-safe; {@link ConcurrentLongMap} guards a set of these with locks.
+ * </p>
+ *
+ * @param <V> the type of the values
+ */
+final class LongHashMap<V> {
+    private static final int MIN_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int resizeAt;
+
+    LongHashMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return (V) values[slot];
+            }
+            if (current == 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Maps the key to the value.
+     *
+     * @return the value previously mapped to the key, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the key.
+     *
+     * @return the value the key was mapped to, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (keys[slot] != key) {
+            if (keys[slot] == 0) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        V previous = (V) values[slot];
+        size--;
+
+        // Shift back every following entry of the run that would no longer be reachable past the hole.
+        int hole = slot;
+        for (int next = (hole + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+            int home = slot(keys[next], mask);
+            boolean reachable = hole <= next ? hole < home && home <= next : hole < home || home <= next;
+            if (!reachable) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+        }
+        keys[hole] = 0;
+        values[hole] = null;
+        return previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEach(LongObjectConsumer<? super V> action) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != 0) {
+                action.accept(keys[slot], (V) values[slot]);
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != 0) {
+                int slot = slot(key, mask);
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Spreads sequential IDs over the table; without mixing they would fill one run of slots.
+     */
+    private static int slot(long key, int mask) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,11 @@
+package com.treinetic.taskmanager.benchmark.storage.memory;
+
+/**
+ * Receives the entries of a map with {@code long} keys, without boxing them.
+ *
+ * @param <V> the type of the values
+ */
+@FunctionalInterface
+interface LongObjectConsumer<V> {
+    void accept(long key, V value);
+}
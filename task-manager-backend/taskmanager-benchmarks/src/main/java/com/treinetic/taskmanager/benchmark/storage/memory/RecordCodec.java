@@ -0,0 +1,141 @@
+package com.treinetic.taskmanager.benchmark.storage.memory;
+
+import com.treinetic.taskmanager.model.TaskStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary encoding of the records in the write log and in snapshots.
+ * <p>
+ * Every record holds the full state of one user or task, the ID of a deleted task, or the
+ * highest IDs handed out when a snapshot was started, so applying a record is idempotent:
+ * replaying a change whose effect a snapshot already holds leaves the same state behind. Strings are UTF-8 with a length prefix ({@code -1} for
+ * {@code null}), and statuses are stored by name like in the database; timestamps are epoch
+ * seconds in UTC plus nanoseconds.
+ * </p>
+ */
+final class RecordCodec {
+    private static final byte PUT_USER = 1;
+    private static final byte PUT_TASK = 2;
+    private static final byte DELETE_TASK = 3;
+    private static final byte LAST_IDS = 4;
+    private static final int TIMESTAMP_SIZE = 8 + 4;
+    private static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    /**
+     * Receives the decoded records, in log order.
+     */
+    interface Handler {
+        void user(StoredUser user);
+
+        void task(StoredTask task);
+
+        void taskDeleted(long taskId);
+
+        void lastIds(long userId, long taskId);
+    }
+
+    private RecordCodec() {
+    }
+
+    static ByteBuffer user(StoredUser user) {
+        byte[] username = utf8(user.username());
+        byte[] password = utf8(user.password());
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 + size(username) + size(password) + TIMESTAMP_SIZE);
+        buffer.put(PUT_USER).putLong(user.id());
+        putBytes(buffer, username);
+        putBytes(buffer, password);
+        putTimestamp(buffer, user.revokedAt());
+        return buffer.flip();
+    }
+
+    static ByteBuffer task(StoredTask task) {
+        byte[] title = utf8(task.title());
+        byte[] description = utf8(task.description());
+        byte[] status = utf8(task.status().name());
+        ByteBuffer buffer = ByteBuffer.allocate(
+                1 + 8 + 8 + size(title) + size(description) + size(status) + 2 * TIMESTAMP_SIZE + 8);
+        buffer.put(PUT_TASK).putLong(task.id()).putLong(task.userId());
+        putBytes(buffer, title);
+        putBytes(buffer, description);
+        putBytes(buffer, status);
+        putTimestamp(buffer, task.createdAt());
+        putTimestamp(buffer, task.updatedAt());
+        buffer.putLong(task.version());
+        return buffer.flip();
+    }
+
+    static ByteBuffer taskDeleted(long taskId) {
+        return ByteBuffer.allocate(1 + 8).put(DELETE_TASK).putLong(taskId).flip();
+    }
+
+    /**
+     * Encodes the highest user and task IDs handed out so far, so that IDs of users or tasks
+     * no longer in a snapshot are not handed out again after recovering from it.
+     */
+    static ByteBuffer lastIds(long userId, long taskId) {
+        return ByteBuffer.allocate(1 + 8 + 8).put(LAST_IDS).putLong(userId).putLong(taskId).flip();
+    }
+
+    /**
+     * Decodes one record and passes it to the handler.
+     *
+     * @throws IllegalStateException if the record type is unknown
+     */
+    static void decode(ByteBuffer record, Handler handler) {
+        byte type = record.get();
+        switch (type) {
+            case PUT_USER -> handler.user(new StoredUser(record.getLong(), getString(record), getString(record),
+                    getTimestamp(record)));
+            case PUT_TASK -> handler.task(new StoredTask(record.getLong(), record.getLong(), getString(record),
+                    getString(record), TaskStatus.valueOf(getString(record)), getTimestamp(record), getTimestamp(record),
+                    record.getLong()));
+            case DELETE_TASK -> handler.taskDeleted(record.getLong());
+            case LAST_IDS -> handler.lastIds(record.getLong(), record.getLong());
+            default -> throw new IllegalStateException("Unknown record type " + type);
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int size(byte[] bytes) {
+        return 4 + (bytes == null ? 0 : bytes.length);
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static void putTimestamp(ByteBuffer buffer, LocalDateTime timestamp) {
+        if (timestamp == null) {
+            buffer.putLong(NULL_TIMESTAMP).putInt(0);
+        } else {
+            buffer.putLong(timestamp.toEpochSecond(ZoneOffset.UTC)).putInt(timestamp.getNano());
+        }
+    }
+
+    private static LocalDateTime getTimestamp(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return seconds == NULL_TIMESTAMP ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,12 @@
+package com.treinetic.taskmanager.benchmark.storage.memory;
+
+import com.treinetic.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task as held by the in-memory engine; immutable, replaced as a whole when it changes.
+ */
+record StoredTask(long id, long userId, String title, String description, TaskStatus status,
+                  LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+}
@@ -0,0 +1,9 @@
+package com.treinetic.taskmanager.benchmark.storage.memory;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user as held by the in-memory engine; immutable, replaced as a whole when it changes.
+ */
+record StoredUser(long id, String username, String password, LocalDateTime revokedAt) {
+}
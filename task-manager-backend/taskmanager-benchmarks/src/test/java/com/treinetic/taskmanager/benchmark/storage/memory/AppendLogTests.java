@@ -0,0 +1,181 @@
+package com.treinetic.taskmanager.benchmark.storage.memory;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AppendLogTests {
+    private static final int REGION = 64;
+    private static final int FILE_HEADER = 8;
+    private static final int FRAME_HEADER = 8;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordsAreReadBackInOrder() throws IOException {
+        Path file = write(REGION * 4, record(1, 5), record(2, 1), record(3, 12));
+
+        assertRecords(file, record(1, 5), record(2, 1), record(3, 12));
+    }
+
+    @Test
+    void recordsThatFillARegionExactlyContinueInTheNext() throws IOException {
+        // Two frames of 28 bytes fill the rest of the first region after the file header.
+        byte[][] records = {record(1, 20), record(2, 20), record(3, 20), record(4, 20)};
+        Path file = directory.resolve("exact.bin");
+        try (AppendLog log = AppendLog.create(file, REGION)) {
+            log.append(ByteBuffer.wrap(records[0]));
+            log.append(ByteBuffer.wrap(records[1]));
+            assertEquals(REGION, log.size());
+            log.append(ByteBuffer.wrap(records[2]));
+            assertEquals(REGION + FRAME_HEADER + 20, log.size());
+            log.append(ByteBuffer.wrap(records[3]));
+        }
+
+        assertRecords(file, records);
+    }
+
+    @Test
+    void recordThatDoesNotFitIsPaddedToTheNextRegion() throws IOException {
+        // After one 40-byte frame, 16 bytes are left: enough for the padding marker, not the next frame.
+        byte[][] records = {record(1, 32), record(2, 32), record(3, 32), record(4, 32)};
+        Path file = directory.resolve("padded.bin");
+        try (AppendLog log = AppendLog.create(file, REGION)) {
+            for (byte[] record : records) {
+                log.append(ByteBuffer.wrap(record));
+            }
+            assertEquals(3 * REGION + FRAME_HEADER + 32, log.size());
+        }
+
+        assertEquals(-1, intAt(file, FILE_HEADER + FRAME_HEADER + 32));
+        assertRecords(file, records);
+    }
+
+    @Test
+    void tailTooShortForAPaddingMarkerIsSkipped() throws IOException {
+        // A 54-byte frame leaves 2 bytes of the first region, too few for the padding marker.
+        Path file = directory.resolve("tail.bin");
+        try (AppendLog log = AppendLog.create(file, REGION)) {
+            log.append(ByteBuffer.wrap(record(1, 46)));
+            assertEquals(REGION - 2, log.size());
+            log.append(ByteBuffer.wrap(record(2, 10)));
+            assertEquals(REGION + FRAME_HEADER + 10, log.size());
+        }
+
+        assertRecords(file, record(1, 46), record(2, 10));
+    }
+
+    @Test
+    void readingStopsAtATornRecord() throws IOException {
+        Path file = write(REGION * 4, record(1, 10), record(2, 10), record(3, 10));
+        // The crash hit while the third record's bytes were being copied.
+        long third = FILE_HEADER + 2L * (FRAME_HEADER + 10);
+        overwrite(file, third + FRAME_HEADER + 4, new byte[6]);
+
+        assertRecords(file, record(1, 10), record(2, 10));
+    }
+
+    @Test
+    void readingStopsAtACorruptRecordAndIgnoresTheRest() throws IOException {
+        Path file = write(REGION * 4, record(1, 10), record(2, 10), record(3, 10));
+        long second = FILE_HEADER + FRAME_HEADER + 10;
+        overwrite(file, second + FRAME_HEADER, new byte[]{(byte) 0xFF});
+
+        assertRecords(file, record(1, 10));
+    }
+
+    @Test
+    void readingStopsAtALengthPastTheRegion() throws IOException {
+        Path file = write(REGION, record(1, 10), record(2, 10));
+        long second = FILE_HEADER + FRAME_HEADER + 10;
+        overwrite(file, second, ByteBuffer.allocate(4).putInt(REGION).array());
+
+        assertRecords(file, record(1, 10));
+    }
+
+    @Test
+    void readingStopsAtATruncatedFile() throws IOException {
+        Path file = write(REGION * 4, record(1, 10), record(2, 10));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(FILE_HEADER + 2L * FRAME_HEADER + 10 + 5);
+        }
+
+        assertRecords(file, record(1, 10));
+    }
+
+    @Test
+    void fileWithoutTheMagicNumberIsNotALog() throws IOException {
+        Path file = directory.resolve("other.bin");
+        Files.write(file, new byte[REGION]);
+
+        assertThrows(IOException.class, () -> AppendLog.read(file, record -> {
+        }));
+    }
+
+    @Test
+    void recordLargerThanARegionIsRejected() throws IOException {
+        try (AppendLog log = AppendLog.create(directory.resolve("large.bin"), REGION)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> log.append(ByteBuffer.wrap(record(1, REGION - FILE_HEADER - FRAME_HEADER + 1))));
+            log.append(ByteBuffer.wrap(record(2, REGION - FILE_HEADER - FRAME_HEADER)));
+        }
+    }
+
+    private Path write(int regionSize, byte[]... records) throws IOException {
+        Path file = directory.resolve("log.bin");
+        try (AppendLog log = AppendLog.create(file, regionSize)) {
+            for (byte[] record : records) {
+                log.append(ByteBuffer.wrap(record));
+            }
+        }
+        return file;
+    }
+
+    private static void assertRecords(Path file, byte[]... expected) throws IOException {
+        List<byte[]> read = new ArrayList<>();
+        long count = AppendLog.read(file, record -> {
+            byte[] bytes = new byte[record.remaining()];
+            record.get(bytes);
+            read.add(bytes);
+        });
+        assertEquals(expected.length, count);
+        assertEquals(expected.length, read.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertArrayEquals(expected[i], read.get(i), "record " + i);
+        }
+    }
+
+    private static byte[] record(int seed, int length) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) seed);
+        return bytes;
+    }
+
+    private static int intAt(Path file, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(4);
+            channel.read(buffer, position);
+            return buffer.getInt(0);
+        }
+    }
+
+    private static void overwrite(Path file, long position, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), position);
+        }
+    }
+}
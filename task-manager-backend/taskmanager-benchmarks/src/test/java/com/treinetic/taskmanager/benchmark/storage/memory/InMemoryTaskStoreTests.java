@@ -0,0 +1,219 @@
+package com.treinetic.taskmanager.benchmark.storage.memory;
+
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryTaskStoreTests {
+
+    @TempDir
+    Path directory;
+
+    private InMemoryTaskStore store;
+    private final List<Long> userIds = new ArrayList<>();
+
+    @AfterEach
+    void close() {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void changesAreRecoveredFromTheLog() {
+        open();
+        long userId = createUser("alice");
+        TaskResponse kept = store.createTask(userId, request("Kept", TaskStatus.TO_DO));
+        TaskResponse deleted = store.createTask(userId, request("Deleted", TaskStatus.TO_DO));
+        store.updateTask(userId, kept.getId(), request("Updated", TaskStatus.DONE), kept.getVersion());
+        store.deleteTask(userId, deleted.getId());
+        Map<Long, TaskResponse> before = state();
+
+        reopen();
+
+        assertEquals(before, state());
+        assertEquals(userId, store.findUserByUsername("alice").orElseThrow().getId());
+        TaskResponse recovered = store.findTask(userId, kept.getId()).orElseThrow();
+        assertEquals("Updated", recovered.getTitle());
+        assertEquals(1, recovered.getVersion());
+        assertTrue(store.findTask(userId, deleted.getId()).isEmpty());
+    }
+
+    @Test
+    void snapshotReplacesOlderFilesAndLaterChangesAreReplayedOverIt() throws IOException {
+        open();
+        long userId = createUser("alice");
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            ids.add(store.createTask(userId, request("Task " + i, TaskStatus.TO_DO)).getId());
+        }
+
+        store.snapshot();
+        assertEquals(List.of("log-2.bin", "snapshot-2.bin"), files());
+
+        store.updateTask(userId, ids.get(0), request("After the snapshot", TaskStatus.IN_PROGRESS), null);
+        store.deleteTask(userId, ids.get(1));
+        store.createTask(userId, request("Created after the snapshot", TaskStatus.DONE));
+        Map<Long, TaskResponse> before = state();
+
+        reopen();
+
+        assertEquals(before, state());
+        assertEquals(List.of("log-2.bin", "log-3.bin", "snapshot-2.bin"), files());
+    }
+
+    @Test
+    void fuzzySnapshotsTakenWhileWritingRecoverTheLiveState() throws Exception {
+        // Small log regions, so that the logs and snapshots roll over between regions many times.
+        open(4096);
+        for (int u = 0; u < 4; u++) {
+            createUser("user-" + u);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(userIds.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> writers = new ArrayList<>();
+            for (long userId : userIds) {
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    write(userId, 2_000);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < 5; i++) {
+                store.snapshot();
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Map<Long, TaskResponse> before = state();
+        assertFalse(before.isEmpty());
+
+        reopen();
+
+        assertEquals(before, state());
+    }
+
+    @Test
+    void crashWhileWritingASnapshotRecoversFromTheLogs() throws IOException {
+        open();
+        long userId = createUser("alice");
+        TaskResponse first = store.createTask(userId, request("In the first log", TaskStatus.TO_DO));
+        reopen();
+        // The crash hit after switching to log-2 and while snapshot-2 was still being written.
+        store.updateTask(userId, first.getId(), request("In the second log", TaskStatus.DONE), null);
+        store.createTask(userId, request("Also in the second log", TaskStatus.TO_DO));
+        Map<Long, TaskResponse> before = state();
+        store.close();
+        Files.write(directory.resolve("snapshot-2.bin.tmp"), new byte[]{1, 2, 3});
+
+        reopen();
+
+        assertEquals(before, state());
+        assertEquals(List.of("log-1.bin", "log-2.bin", "log-3.bin"), files());
+    }
+
+    @Test
+    void idOfADeletedTaskIsNotReusedOnceASnapshotDroppedTheDeletion() {
+        open();
+        long userId = createUser("alice");
+        store.createTask(userId, request("First", TaskStatus.TO_DO));
+        TaskResponse highest = store.createTask(userId, request("Second", TaskStatus.TO_DO));
+        store.deleteTask(userId, highest.getId());
+        store.snapshot();
+
+        reopen();
+
+        TaskResponse created = store.createTask(userId, request("Third", TaskStatus.TO_DO));
+        assertEquals(highest.getId() + 1, created.getId());
+    }
+
+    private void open() {
+        open(64 << 10);
+    }
+
+    private void open(int logRegionSize) {
+        // Snapshots are only taken when a test asks for one.
+        store = new InMemoryTaskStore(new InMemoryTaskStore.Settings(directory, logRegionSize, Long.MAX_VALUE,
+                Duration.ofMillis(50)));
+    }
+
+    private void reopen() {
+        store.close();
+        open();
+    }
+
+    private long createUser(String username) {
+        long id = store.createUser(username, "{noop}password").getId();
+        userIds.add(id);
+        return id;
+    }
+
+    /**
+     * Creates, updates and deletes the user's tasks at random.
+     */
+    private void write(long userId, int operations) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < operations; i++) {
+            int pick = random.nextInt(10);
+            if (pick < 5 || ids.isEmpty()) {
+                ids.add(store.createTask(userId, request("Task " + i, TaskStatus.TO_DO)).getId());
+            } else if (pick < 8) {
+                store.updateTask(userId, ids.get(random.nextInt(ids.size())),
+                        request("Updated " + i, TaskStatus.IN_PROGRESS), null);
+            } else {
+                store.deleteTask(userId, ids.remove(random.nextInt(ids.size())));
+            }
+        }
+    }
+
+    /**
+     * Returns every task of the known users by ID.
+     */
+    private Map<Long, TaskResponse> state() {
+        Map<Long, TaskResponse> tasks = new TreeMap<>();
+        for (long userId : userIds) {
+            for (TaskResponse task : store.findTasks(userId, null, Integer.MAX_VALUE)) {
+                tasks.put(task.getId(), task);
+            }
+        }
+        return tasks;
+    }
+
+    private List<String> files() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    private static TaskRequest request(String title, TaskStatus status) {
+        return TaskRequest.builder().title(title).description("Description of " + title).status(status).build();
+    }
+}
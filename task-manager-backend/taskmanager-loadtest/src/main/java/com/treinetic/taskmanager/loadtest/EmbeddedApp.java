@@ -0,0 +1,99 @@
+package com.treinetic.taskmanager.loadtest;
+
+import com.treinetic.taskmanager.TaskmanagerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * The Task Manager application, booted in this JVM on a random port.
+ * <p>
+ * By default it runs against a fresh in-memory H2 database in MySQL mode, so a load test
+ * needs no external services. A JDBC URL can be given to run against a real database instead;
+ * the schema is then created and dropped by Hibernate, so it must point at a scratch database.
+ * </p>
+ *
+ * <p>
+ * Settings are passed as command line arguments, which take precedence over the
+ * application's own {@code application.yml}. Rate limiting is switched off, since all
+ * simulated clients share one IP address and a handful of users.
+ * </p>
+ */
+final class EmbeddedApp implements AutoCloseable {
+    private final ConfigurableApplicationContext context;
+    private final URI baseUri;
+
+    private EmbeddedApp(ConfigurableApplicationContext context) {
+        this.context = context;
+        String port = context.getEnvironment().getProperty("local.server.port");
+        String contextPath = context.getEnvironment().getProperty("server.servlet.context-path", "");
+        this.baseUri = URI.create("http://localhost:" + port + contextPath + "/");
+    }
+
+    /**
+     * Boots the application.
+     *
+     * @param virtualThreads whether requests are handled on virtual threads
+     * @param dbPoolSize     the size of the database connection pool
+     * @param jdbcUrl        the database to use, or {@code null} for a fresh in-memory H2 database
+     * @param dbUsername     the database user, ignored for H2
+     * @param dbPassword     the database password, ignored for H2
+     * @return the running application
+     */
+    static EmbeddedApp start(boolean virtualThreads, int dbPoolSize, String jdbcUrl, String dbUsername, String dbPassword) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--spring.datasource.hikari.maximum-pool-size=" + dbPoolSize,
+                "--spring.datasource.hikari.minimum-idle=" + dbPoolSize,
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--app.search.rebuild-on-startup=false",
+                "--app.rate-limit.enabled=false",
+                "--app.jwt.secret=" + randomSecret()
+        ));
+        if (jdbcUrl == null) {
+            args.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:loadtest-" + System.nanoTime()
+                            + ";MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+            ));
+        } else {
+            args.addAll(List.of(
+                    "--spring.datasource.url=" + jdbcUrl,
+                    "--spring.datasource.username=" + dbUsername,
+                    "--spring.datasource.password=" + dbPassword
+            ));
+        }
+        return new EmbeddedApp(new SpringApplicationBuilder(TaskmanagerApplication.class)
+                .run(args.toArray(String[]::new)));
+    }
+
+    /**
+     * @return the URI the API is served under, ending with a slash
+     */
+    URI baseUri() {
+        return baseUri;
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+
+    private static String randomSecret() {
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key);
+    }
+}
@@ -0,0 +1,29 @@
+package com.treinetic.taskmanager.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Entry point of the load test jar; the first argument picks the load test.
+ * <ul>
+ *     <li>{@code mix} - {@link MixedWorkload}: the API call mix at a fixed arrival rate</li>
+ *     <li>{@code threads} - {@link ThreadModeComparison}: platform versus virtual threads</li>
+ * </ul>
+ * Without a name, {@code threads} is run. The remaining arguments are the load test's options.
+ */
+public final class LoadTest {
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0 || args[0].startsWith("--")) {
+            ThreadModeComparison.main(args);
+            return;
+        }
+        String[] options = Arrays.copyOfRange(args, 1, args.length);
+        switch (args[0]) {
+            case "mix" -> MixedWorkload.main(options);
+            case "threads" -> ThreadModeComparison.main(options);
+            default -> throw new IllegalArgumentException("Unknown load test: " + args[0] + " (expected mix or threads)");
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.treinetic.taskmanager.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a realistic mix of API calls at a fixed arrival rate and reports the latency
+ * percentiles and throughput of each kind of call.
+ * <p>
+ * The application is booted in this JVM on an embedded database and seeded with users and
+ * tasks, so the run needs no external services; every request goes through the whole stack,
+ * from the JWT filter through the controllers to the database. The mix is 50% task listings,
+ * 20% updates, 15% creates, 8% deletes, 5% logins and 2% registrations.
+ * </p>
+ *
+ * <p>
+ * Unlike {@link ThreadModeComparison}, this is an open model: requests are started at random
+ * (Poisson) arrival times averaging {@code rate} per second, whether or not earlier requests
+ * have been answered, the way independent users arrive. Each latency is measured from the
+ * time the request was due to be sent, so a stalled server is charged for every request it
+ * held up rather than only the one it stalled on. Requests beyond {@code max-in-flight}
+ * outstanding are not sent; they are reported as dropped and recorded as errors that took the
+ * client's {@link TaskApiClient#TIMEOUT}, as if they had timed out, so that shedding load never
+ * makes the percentiles look better.
+ * </p>
+ *
+ * <p>
+ * For every scenario, the full percentile distribution is written to
+ * {@code <report-dir>/<scenario>.hgrm} and a row is added to {@code <report-dir>/summary.txt}.
+ * </p>
+ *
+ * <p>
+ * Options, all optional, as {@code --name=value}:
+ * <ul>
+ *     <li>{@code rate} - requests started per second, default 100</li>
+ *     <li>{@code warmup} / {@code duration} - seconds, default 10 / 60</li>
+ *     <li>{@code users} / {@code tasks-per-user} - seed data, default 100 / 20</li>
+ *     <li>{@code max-in-flight} - outstanding requests before new ones are dropped, default 5000</li>
+ *     <li>{@code virtual-threads} - handle requests on virtual threads, default false</li>
+ *     <li>{@code db-pool-size} - connection pool size, default 10</li>
+ *     <li>{@code report-dir} - where reports are written, default {@code loadtest-report}</li>
+ *     <li>{@code jdbc-url}, {@code db-username}, {@code db-password} - run against this scratch
+ *     database instead of in-memory H2</li>
+ * </ul>
+ * </p>
+ */
+public final class MixedWorkload {
+    private static final String PASSWORD = "load-test-password";
+
+    private MixedWorkload() {
+    }
+
+    /**
+     * The kinds of call in the mix, with their share of the requests in percent.
+     */
+    private enum Scenario {
+        REGISTER(2),
+        LOGIN(5),
+        LIST(50),
+        CREATE(15),
+        UPDATE(20),
+        DELETE(8);
+
+        private final int weight;
+
+        Scenario(int weight) {
+            this.weight = weight;
+        }
+
+        static Scenario pick(ThreadLocalRandom random) {
+            int pick = random.nextInt(100);
+            for (Scenario scenario : values()) {
+                pick -= scenario.weight;
+                if (pick < 0) {
+                    return scenario;
+                }
+            }
+            return LIST;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = Options.parse(args);
+        int rate = Options.intOption(options, "rate", 100);
+        int warmupSeconds = Options.intOption(options, "warmup", 10);
+        int durationSeconds = Options.intOption(options, "duration", 60);
+        int users = Options.intOption(options, "users", 100);
+        int tasksPerUser = Options.intOption(options, "tasks-per-user", 20);
+        int maxInFlight = Options.intOption(options, "max-in-flight", 5000);
+        Path reportDir = Path.of(options.getOrDefault("report-dir", "loadtest-report"));
+
+        System.out.println("Starting application");
+        try (EmbeddedApp app = EmbeddedApp.start(Options.booleanOption(options, "virtual-threads", false),
+                Options.intOption(options, "db-pool-size", 10),
+                options.get("jdbc-url"), options.getOrDefault("db-username", "root"), options.getOrDefault("db-password", ""))) {
+            TaskApiClient client = new TaskApiClient(app.baseUri());
+
+            System.out.printf("Seeding %d users with %d tasks each%n", users, tasksPerUser);
+            String runId = Long.toString(System.currentTimeMillis(), 36);
+            List<Account> accounts = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                accounts.add(new Account(client.register("mix-" + runId + "-" + i, PASSWORD, tasksPerUser)));
+            }
+
+            System.out.printf("%d requests/s: %ds warm-up, %ds measured%n", rate, warmupSeconds, durationSeconds);
+            Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+            for (Scenario scenario : Scenario.values()) {
+                stats.put(scenario, new ScenarioStats(scenario.name().toLowerCase(Locale.ROOT)));
+            }
+            Workload workload = new Workload(client, accounts, stats, "mix-" + runId + "-new-");
+            long dropped = workload.run(rate, warmupSeconds, durationSeconds, maxInFlight);
+
+            writeReport(reportDir, stats, durationSeconds, rate, dropped);
+        }
+    }
+
+    private static void writeReport(Path reportDir, Map<Scenario, ScenarioStats> stats, int durationSeconds,
+                                    int rate, long dropped) throws IOException {
+        Files.createDirectories(reportDir);
+        List<ScenarioStats> rows = new ArrayList<>(stats.values());
+        rows.add(ScenarioStats.merge("total", stats.values()));
+
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format(Locale.ROOT, "Target rate %d requests/s for %ds; %d requests dropped and counted as timed out", rate, durationSeconds, dropped));
+        lines.add(ScenarioStats.HEADER);
+        for (ScenarioStats row : rows) {
+            lines.add(row.summary(durationSeconds));
+            try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(row.name() + ".hgrm")),
+                    false, StandardCharsets.UTF_8)) {
+                row.writeDistribution(out);
+            }
+        }
+        Files.write(reportDir.resolve("summary.txt"), lines, StandardCharsets.UTF_8);
+
+        System.out.println();
+        lines.forEach(System.out::println);
+        System.out.println();
+        System.out.println("Percentile distributions written to " + reportDir.toAbsolutePath());
+    }
+
+    /**
+     * A seeded user and the IDs of their tasks, which creates and deletes keep up to date.
+     */
+    private static final class Account {
+        private final TaskApiClient.Session session;
+        private final List<Long> taskIds;
+
+        Account(TaskApiClient.Session session) {
+            this.session = session;
+            this.taskIds = new ArrayList<>(session.taskIds());
+        }
+
+        synchronized void add(long id) {
+            taskIds.add(id);
+        }
+
+        /**
+         * Returns one of the user's tasks at random, or {@code -1} if they have none.
+         */
+        synchronized long pick(ThreadLocalRandom random) {
+            return taskIds.isEmpty() ? -1 : taskIds.get(random.nextInt(taskIds.size()));
+        }
+
+        /**
+         * Removes one of the user's tasks at random, so that no other request picks it, and returns it.
+         */
+        synchronized long take(ThreadLocalRandom random) {
+            if (taskIds.isEmpty()) {
+                return -1;
+            }
+            int index = random.nextInt(taskIds.size());
+            long id = taskIds.get(index);
+            taskIds.set(index, taskIds.get(taskIds.size() - 1));
+            taskIds.remove(taskIds.size() - 1);
+            return id;
+        }
+    }
+
+    /**
+     * Starts the requests of one run and records their outcome.
+     */
+    private static final class Workload {
+        private final TaskApiClient client;
+        private final List<Account> accounts;
+        private final Map<Scenario, ScenarioStats> stats;
+        private final String newUserPrefix;
+        private final AtomicLong newUsers = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        Workload(TaskApiClient client, List<Account> accounts, Map<Scenario, ScenarioStats> stats, String newUserPrefix) {
+            this.client = client;
+            this.accounts = accounts;
+            this.stats = stats;
+            this.newUserPrefix = newUserPrefix;
+        }
+
+        /**
+         * Starts requests at the given average rate until the measurement window has closed,
+         * then waits for the outstanding ones.
+         *
+         * @return the number of requests in the measurement window not sent because too many were outstanding;
+         * they are also recorded as timed out in their scenario's statistics
+         */
+        long run(int rate, int warmupSeconds, int durationSeconds, int maxInFlight) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) rate;
+            long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+            LongAdder dropped = new LongAdder();
+
+            try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+                long due = System.nanoTime();
+                while (due < measureUntil) {
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    long scheduled = due;
+                    boolean measured = scheduled >= measureFrom;
+                    Scenario scenario = Scenario.pick(random);
+                    if (inFlight.incrementAndGet() > maxInFlight) {
+                        inFlight.decrementAndGet();
+                        if (measured) {
+                            dropped.increment();
+                            stats.get(scenario).record(TaskApiClient.TIMEOUT.toNanos(), true);
+                        }
+                    } else {
+                        Account account = accounts.get(random.nextInt(accounts.size()));
+                        requests.submit(() -> {
+                            try {
+                                boolean failed = !send(scenario, account);
+                                if (measured) {
+                                    stats.get(scenario).record(System.nanoTime() - scheduled, failed);
+                                }
+                            } finally {
+                                inFlight.decrementAndGet();
+                            }
+                        });
+                    }
+                    // Exponentially distributed gaps make the arrivals a Poisson process.
+                    due += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+                }
+            }
+            return dropped.sum();
+        }
+
+        /**
+         * Sends one request of the scenario.
+         *
+         * @return whether it succeeded
+         */
+        private boolean send(Scenario scenario, Account account) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            TaskApiClient.Session session = account.session;
+            try {
+                int status = switch (scenario) {
+                    case REGISTER -> client.signUp(newUserPrefix + newUsers.incrementAndGet(), PASSWORD);
+                    case LOGIN -> client.login(session.username(), PASSWORD);
+                    case LIST -> client.listTasks(session);
+                    case CREATE -> {
+                        TaskApiClient.Created created = client.createTask(session,
+                                "Task created at " + System.nanoTime(), random.nextBoolean() ? "TO_DO" : "IN_PROGRESS");
+                        if (created.id() >= 0) {
+                            account.add(created.id());
+                        }
+                        yield created.status();
+                    }
+                    case UPDATE -> {
+                        long id = account.pick(random);
+                        yield id < 0 ? client.listTasks(session)
+                                : client.updateTask(session, id, "Updated " + random.nextInt(1000),
+                                random.nextBoolean() ? "DONE" : "IN_PROGRESS");
+                    }
+                    case DELETE -> {
+                        long id = account.take(random);
+                        yield id < 0 ? client.listTasks(session) : client.deleteTask(session, id);
+                    }
+                };
+                return status >= 200 && status < 300;
+            } catch (IOException ex) {
+                return false;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
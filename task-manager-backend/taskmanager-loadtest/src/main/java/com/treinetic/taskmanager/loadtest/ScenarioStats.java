@@ -0,0 +1,82 @@
+package com.treinetic.taskmanager.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram and error count of one scenario, recorded by many requests at once.
+ * <p>
+ * Latencies are kept in an HdrHistogram in nanoseconds with three significant digits, so
+ * percentiles are accurate to 0.1% whatever the number of requests, in constant memory.
+ * </p>
+ */
+final class ScenarioStats {
+    static final String HEADER = header("scenario");
+
+    private final String name;
+    private final Histogram latencies = new ConcurrentHistogram(3);
+    private final LongAdder errors = new LongAdder();
+
+    ScenarioStats(String name) {
+        this.name = name;
+    }
+
+    void record(long nanos, boolean failed) {
+        latencies.recordValue(nanos);
+        if (failed) {
+            errors.increment();
+        }
+    }
+
+    /**
+     * Returns the combined statistics of several scenarios.
+     */
+    static ScenarioStats merge(String name, Iterable<ScenarioStats> scenarios) {
+        ScenarioStats total = new ScenarioStats(name);
+        for (ScenarioStats scenario : scenarios) {
+            total.latencies.add(scenario.latencies);
+            total.errors.add(scenario.errors.sum());
+        }
+        return total;
+    }
+
+    /**
+     * Returns the header of the summary table, with the given title for the column of names.
+     */
+    static String header(String nameTitle) {
+        return String.format(Locale.ROOT, "%-10s %9s %7s %9s %9s %9s %9s %9s %9s",
+                nameTitle, "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * Writes the full percentile distribution in the HdrHistogram {@code .hgrm} format, in
+     * milliseconds; it can be plotted with the HdrHistogram plotter.
+     */
+    void writeDistribution(PrintStream out) {
+        latencies.outputPercentileDistribution(out, 1e6);
+    }
+
+    /**
+     * Formats one row of the summary table, under {@link #HEADER}.
+     *
+     * @param seconds the length of the measurement window, to compute the request rate
+     */
+    String summary(double seconds) {
+        long requests = latencies.getTotalCount();
+        return String.format(Locale.ROOT, "%-10s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+                name, requests, errors.sum(), requests / seconds,
+                millis(50), millis(90), millis(99), millis(99.9), latencies.getMaxValue() / 1e6);
+    }
+
+    private double millis(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1e6;
+    }
+}
@@ -0,0 +1,158 @@
+package com.treinetic.taskmanager.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal blocking client for the endpoints exercised by the load tests.
+ * <p>
+ * Calls that drive load return the HTTP status and discard the body, so that the client
+ * spends as little time as possible per request; only the setup calls parse their responses.
+ * </p>
+ */
+final class TaskApiClient {
+    /**
+     * How long a request may take before it fails.
+     */
+    static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(TIMEOUT)
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final URI baseUri;
+
+    TaskApiClient(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * A registered user and the tasks created for them.
+     */
+    record Session(String username, String token, List<Long> taskIds) {
+    }
+
+    /**
+     * The outcome of creating a task: the HTTP status and, if it succeeded, the new task's ID.
+     */
+    record Created(int status, long id) {
+    }
+
+    /**
+     * Registers a user and creates tasks for them with a single batch request.
+     */
+    Session register(String username, String password, int tasks) throws IOException, InterruptedException {
+        ObjectNode credentials = objectMapper.createObjectNode()
+                .put("username", username)
+                .put("password", password);
+        JsonNode auth = send(json("api/auth/register", null, "POST", credentials));
+        String token = auth.get("token").asText();
+
+        List<Long> taskIds = new ArrayList<>(tasks);
+        if (tasks > 0) {
+            ObjectNode batch = objectMapper.createObjectNode();
+            ArrayNode operations = batch.putArray("operations");
+            for (int i = 0; i < tasks; i++) {
+                operations.addObject()
+                        .put("type", "CREATE")
+                        .set("task", task("Task " + i + " for " + username, i % 2 == 0 ? "TO_DO" : "DONE"));
+            }
+            for (JsonNode result : send(json("api/tasks/batch", token, "POST", batch)).get("results")) {
+                taskIds.add(result.get("id").asLong());
+            }
+        }
+        return new Session(username, token, taskIds);
+    }
+
+    int signUp(String username, String password) throws IOException, InterruptedException {
+        ObjectNode credentials = objectMapper.createObjectNode()
+                .put("username", username)
+                .put("password", password);
+        return status(json("api/auth/register", null, "POST", credentials));
+    }
+
+    int login(String username, String password) throws IOException, InterruptedException {
+        ObjectNode credentials = objectMapper.createObjectNode()
+                .put("username", username)
+                .put("password", password);
+        return status(json("api/auth/authenticate", null, "POST", credentials));
+    }
+
+    int listTasks(Session session) throws IOException, InterruptedException {
+        return status(request("api/tasks?limit=20", session.token()).GET().build());
+    }
+
+    int getTask(Session session, long id) throws IOException, InterruptedException {
+        return status(request("api/tasks/" + id, session.token()).GET().build());
+    }
+
+    int searchTasks(Session session, String query) throws IOException, InterruptedException {
+        return status(request("api/tasks/search?q=" + query, session.token()).GET().build());
+    }
+
+    /**
+     * Creates a task; unlike the other load calls, this one parses the response for the task's ID.
+     */
+    Created createTask(Session session, String title, String status) throws IOException, InterruptedException {
+        HttpRequest request = json("api/tasks", session.token(), "POST", task(title, status));
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 300) {
+            return new Created(response.statusCode(), -1);
+        }
+        return new Created(response.statusCode(), objectMapper.readTree(response.body()).get("id").asLong());
+    }
+
+    int updateTask(Session session, long id, String title, String status) throws IOException, InterruptedException {
+        return status(json("api/tasks/" + id, session.token(), "PUT", task(title, status)));
+    }
+
+    int deleteTask(Session session, long id) throws IOException, InterruptedException {
+        return status(request("api/tasks/" + id, session.token()).DELETE().build());
+    }
+
+    private ObjectNode task(String title, String status) {
+        return objectMapper.createObjectNode()
+                .put("title", title)
+                .put("description", "Created by the load test")
+                .put("status", status);
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path)).timeout(TIMEOUT);
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest json(String path, String token, String method, JsonNode body) throws IOException {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private int status(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private JsonNode send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 300) {
+            throw new IOException(request.method() + " " + request.uri() + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
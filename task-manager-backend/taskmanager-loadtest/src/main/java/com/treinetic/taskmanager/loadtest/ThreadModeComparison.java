@@ -0,0 +1,140 @@
+package com.treinetic.taskmanager.loadtest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares request throughput and tail latency with request handling on platform threads
+ * ({@code spring.threads.virtual.enabled=false}) and on virtual threads.
+ * <p>
+ * For each mode, the application is booted in this JVM, users and tasks are seeded, and a
+ * fixed number of concurrent clients (a closed model) send a mix of task reads, searches and
+ * updates as fast as they get answers. Requests sent during the warm-up are not measured.
+ * The clients themselves run on virtual threads, so the load generator can hold more
+ * concurrent requests open than Tomcat has platform worker threads.
+ * </p>
+ *
+ * <p>
+ * Options, all optional, as {@code --name=value}:
+ * <ul>
+ *     <li>{@code modes} - {@code platform,virtual} (default), or either one</li>
+ *     <li>{@code concurrency} - concurrent clients, default 400</li>
+ *     <li>{@code warmup} / {@code duration} - seconds, default 10 / 30</li>
+ *     <li>{@code users} / {@code tasks-per-user} - seed data, default 100 / 50</li>
+ *     <li>{@code db-pool-size} - connection pool size, default 10</li>
+ *     <li>{@code jdbc-url}, {@code db-username}, {@code db-password} - run against this scratch
+ *     database instead of in-memory H2</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * H2 runs inside this JVM and synchronises internally, which pins virtual threads; use a
+ * {@code jdbc-url} pointing at MySQL for numbers that reflect production. Add
+ * {@code -Djdk.tracePinnedThreads=short} to the {@code java} command to print the stack of every
+ * virtual thread that blocks while pinned.
+ * </p>
+ */
+public final class ThreadModeComparison {
+    private static final String PASSWORD = "load-test-password";
+
+    private ThreadModeComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = Options.parse(args);
+        List<ScenarioStats> results = new ArrayList<>();
+        for (String mode : options.getOrDefault("modes", "platform,virtual").split(",")) {
+            boolean virtualThreads = switch (mode.trim()) {
+                case "platform" -> false;
+                case "virtual" -> true;
+                default -> throw new IllegalArgumentException("Unknown mode: " + mode);
+            };
+            results.add(run(mode.trim(), virtualThreads, options));
+        }
+
+        System.out.println();
+        System.out.println(ScenarioStats.header("mode"));
+        double seconds = Options.intOption(options, "duration", 30);
+        for (ScenarioStats result : results) {
+            System.out.println(result.summary(seconds));
+        }
+    }
+
+    private static ScenarioStats run(String mode, boolean virtualThreads, Map<String, String> options) throws Exception {
+        int concurrency = Options.intOption(options, "concurrency", 400);
+        int warmupSeconds = Options.intOption(options, "warmup", 10);
+        int durationSeconds = Options.intOption(options, "duration", 30);
+        int users = Options.intOption(options, "users", 100);
+        int tasksPerUser = Options.intOption(options, "tasks-per-user", 50);
+
+        System.out.printf("[%s] starting application%n", mode);
+        try (EmbeddedApp app = EmbeddedApp.start(virtualThreads, Options.intOption(options, "db-pool-size", 10),
+                options.get("jdbc-url"), options.getOrDefault("db-username", "root"), options.getOrDefault("db-password", ""))) {
+            TaskApiClient client = new TaskApiClient(app.baseUri());
+
+            System.out.printf("[%s] seeding %d users with %d tasks each%n", mode, users, tasksPerUser);
+            List<TaskApiClient.Session> sessions = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                sessions.add(client.register(mode + "-user-" + i, PASSWORD, tasksPerUser));
+            }
+
+            System.out.printf("[%s] %d clients: %ds warm-up, %ds measured%n", mode, concurrency, warmupSeconds, durationSeconds);
+            long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+            ScenarioStats stats = new ScenarioStats(mode);
+            try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < concurrency; i++) {
+                    workers.submit(() -> drive(client, sessions, measureFrom, measureUntil, stats));
+                }
+            }
+            return stats;
+        }
+    }
+
+    /**
+     * Sends requests back to back until the measurement window has closed.
+     */
+    private static Void drive(TaskApiClient client, List<TaskApiClient.Session> sessions, long measureFrom, long measureUntil,
+                              ScenarioStats stats) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now;
+        while ((now = System.nanoTime()) < measureUntil) {
+            TaskApiClient.Session session = sessions.get(random.nextInt(sessions.size()));
+            int status;
+            try {
+                status = send(client, session, random);
+            } catch (IOException ex) {
+                status = -1;
+            }
+            if (now >= measureFrom) {
+                stats.record(System.nanoTime() - now, status < 200 || status >= 300);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sends one request of the mix: 60% listings, 20% single reads, 15% updates and 5% searches.
+     */
+    private static int send(TaskApiClient client, TaskApiClient.Session session, ThreadLocalRandom random)
+            throws IOException, InterruptedException {
+        int pick = random.nextInt(100);
+        if (pick < 60 || session.taskIds().isEmpty()) {
+            return client.listTasks(session);
+        }
+        long id = session.taskIds().get(random.nextInt(session.taskIds().size()));
+        if (pick < 80) {
+            return client.getTask(session, id);
+        }
+        if (pick < 95) {
+            return client.updateTask(session, id, "Updated " + random.nextInt(1000), random.nextBoolean() ? "DONE" : "IN_PROGRESS");
+        }
+        return client.searchTasks(session, "task");
+    }
+}
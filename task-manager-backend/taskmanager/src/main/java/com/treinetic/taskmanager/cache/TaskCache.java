@@ -0,0 +1,137 @@
+package com.treinetic.taskmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.event.TaskChangedEvent;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Bounded in-process cache of single tasks by ID, holding their {@link TaskResponse}.
+ * <p>
+ * Entries are refreshed from {@link TaskChangedEvent}s once a change is committed: created and
+ * updated tasks replace the cached copy, deleted tasks are evicted. An entry is only ever
+ * replaced by one with a higher {@code version}, so a reader that loaded a task just before a
+ * concurrent update cannot overwrite the newer copy with its older one.
+ * </p>
+ *
+ * <p>
+ * A deleted task leaves nothing to compare versions against, so deletions are also remembered
+ * as tombstones for the cache's TTL. A reader that loaded a task just before it was deleted
+ * then cannot put it back once the deletion has evicted it. Task IDs are never reused, so a
+ * tombstone never hides a live task. Tombstones are only dropped by the TTL, not by the size
+ * bound: evicting one early, say during a burst of deletions, would let a reader resurrect
+ * the task. They hold no more than an ID each.
+ * </p>
+ *
+ * <p>
+ * Callers must still check that a cached task belongs to the requesting user.
+ * </p>
+ */
+@Component
+public class TaskCache {
+
+    /**
+     * Maximum number of tasks kept in the cache.
+     * Loaded from application properties: {@code app.cache.tasks.max-size}.
+     */
+    @Value("${app.cache.tasks.max-size}")
+    private long maxSize;
+
+    /**
+     * Time in milliseconds after which a cached task is dropped.
+     * Loaded from application properties: {@code app.cache.tasks.ttl}.
+     */
+    @Value("${app.cache.tasks.ttl}")
+    private long ttl;
+
+    private Cache<Long, TaskResponse> cache;
+    private Cache<Long, Boolean> deleted;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        deleted = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .build();
+    }
+
+    /**
+     * Returns the cached task, or {@code null} on a miss.
+     *
+     * @param id the ID of the task
+     * @return the cached task, or {@code null}
+     */
+    public TaskResponse get(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    /**
+     * Caches a task unless a newer version of it is already cached or it has been deleted.
+     * <p>
+     * The tombstone is checked inside the entry's {@code compute}, which {@link #markDeleted}
+     * also goes through after recording the tombstone, so the two cannot interleave.
+     * </p>
+     *
+     * @param task the task as just read or written
+     */
+    public void put(TaskResponse task) {
+        cache.asMap().compute(task.getId(), (id, cached) -> {
+            if (deleted.getIfPresent(id) != null) {
+                return null;
+            }
+            return cached == null || task.getVersion() > cached.getVersion() ? task : cached;
+        });
+    }
+
+    /**
+     * Evicts a deleted task and keeps it from being cached again.
+     *
+     * @param id the ID of the deleted task
+     */
+    public void markDeleted(Long id) {
+        deleted.put(id, Boolean.TRUE);
+        cache.invalidate(id);
+    }
+
+    /**
+     * Removes a task from the cache.
+     *
+     * @param id the ID of the task
+     */
+    public void evict(Long id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Applies a committed change to the cache.
+     *
+     * @param event the change published by the task service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.Type.DELETED) {
+            markDeleted(event.taskId());
+        } else {
+            put(event.task());
+        }
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+}
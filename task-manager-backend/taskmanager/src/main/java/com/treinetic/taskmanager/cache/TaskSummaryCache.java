@@ -0,0 +1,162 @@
+package com.treinetic.taskmanager.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.treinetic.taskmanager.event.TaskSummaryChangedEvent;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.TaskSummary;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-process cache of per-user task counters, one {@link LongAdder} per status.
+ * <p>
+ * An entry is seeded from the user's stored {@link TaskSummary} and then kept current from
+ * {@link TaskSummaryChangedEvent}s once each change is committed, so reading a summary touches
+ * neither the database nor a lock. Concurrent writers only ever add to the adders.
+ * </p>
+ *
+ * <p>
+ * A change with a version the seed already included is skipped. A change committed while an
+ * entry is being seeded finds no entry and is missed, so the
+ * {@link com.treinetic.taskmanager.service.TaskSummaryService} checks the stored version again
+ * once it has seeded, and evicts counters older than it. The
+ * {@link com.treinetic.taskmanager.service.TaskSummaryReconciler} also evicts entries that are
+ * behind the stored summary or disagree with it at the same version, and
+ * {@code app.cache.summaries.ttl} bounds how long any drift can last.
+ * </p>
+ */
+@Component
+public class TaskSummaryCache {
+
+    /**
+     * Maximum number of users whose counters are kept in the cache.
+     * Loaded from application properties: {@code app.cache.summaries.max-size}.
+     */
+    @Value("${app.cache.summaries.max-size}")
+    private long maxSize;
+
+    /**
+     * Time in milliseconds after which cached counters are reloaded from the summary table.
+     * Loaded from application properties: {@code app.cache.summaries.ttl}.
+     */
+    @Value("${app.cache.summaries.ttl}")
+    private long ttl;
+
+    private Cache<Long, Counters> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Returns the user's counters, or {@code null} on a miss.
+     *
+     * @param userId the ID of the user
+     * @return the cached counters, or {@code null}
+     */
+    public Counters get(Long userId) {
+        return cache.getIfPresent(userId);
+    }
+
+    /**
+     * Seeds the user's counters from their stored summary, unless another request already has.
+     *
+     * @param summary the stored summary, as read in one transaction
+     * @return the counters now cached for the user
+     */
+    public Counters seed(TaskSummary summary) {
+        return cache.asMap().computeIfAbsent(summary.getUserId(), userId -> new Counters(summary));
+    }
+
+    /**
+     * Removes a user's counters from the cache.
+     *
+     * @param userId the ID of the user
+     */
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * Removes a user's counters from the cache, unless they have been replaced meanwhile.
+     *
+     * @param userId   the ID of the user
+     * @param counters the counters to remove
+     */
+    public void evict(Long userId, Counters counters) {
+        cache.asMap().remove(userId, counters);
+    }
+
+    /**
+     * Applies a committed change to the user's counters, if they are cached.
+     *
+     * @param event the change published by the task service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSummaryChanged(TaskSummaryChangedEvent event) {
+        Counters counters = cache.getIfPresent(event.userId());
+        if (counters != null) {
+            counters.apply(event);
+        }
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Lock-free task counters of one user.
+     */
+    public static final class Counters {
+        private final LongAdder[] counts = new LongAdder[TaskStatus.values().length];
+        private final long seedVersion;
+        private final AtomicLong version;
+
+        Counters(TaskSummary seed) {
+            for (TaskStatus status : TaskStatus.values()) {
+                counts[status.ordinal()] = new LongAdder();
+                counts[status.ordinal()].add(seed.count(status));
+            }
+            this.seedVersion = seed.getVersion();
+            this.version = new AtomicLong(seed.getVersion());
+        }
+
+        void apply(TaskSummaryChangedEvent event) {
+            if (event.changeVersion() <= seedVersion) {
+                return;
+            }
+            counts[TaskStatus.TO_DO.ordinal()].add(event.toDo());
+            counts[TaskStatus.IN_PROGRESS.ordinal()].add(event.inProgress());
+            counts[TaskStatus.DONE.ordinal()].add(event.done());
+            version.accumulateAndGet(event.changeVersion(), Math::max);
+        }
+
+        public long count(TaskStatus status) {
+            return counts[status.ordinal()].sum();
+        }
+
+        /**
+         * Returns the version of the latest change applied, or of the seed if none was.
+         */
+        public long getVersion() {
+            return version.get();
+        }
+    }
+}
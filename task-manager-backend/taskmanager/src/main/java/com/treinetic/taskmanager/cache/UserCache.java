@@ -0,0 +1,112 @@
+package com.treinetic.taskmanager.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.treinetic.taskmanager.model.User;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of users by username.
+ * <p>
+ * Serves the user lookup that the JWT filter and login perform on every request, so that
+ * a user who keeps sending requests is read from the database once per TTL rather than
+ * once per request. Entries expire a fixed time after they were loaded
+ * ({@code app.cache.users.ttl}), which also bounds how long a change made directly in the
+ * database, such as revoking a user, can go unnoticed. Unknown usernames are not cached.
+ * </p>
+ *
+ * <p>
+ * A miss first installs its pending load in the cache, so concurrent misses for a user wait for
+ * the same load, and {@link #evict} removes a load still in flight along with it. A lookup that
+ * read the user just before a password change committed therefore cannot cache the old hash
+ * after the change has evicted it: its load is no longer in the cache when it completes.
+ * </p>
+ */
+@Component
+public class UserCache {
+
+    /**
+     * Maximum number of users kept in the cache.
+     * Loaded from application properties: {@code app.cache.users.max-size}.
+     */
+    @Value("${app.cache.users.max-size}")
+    private long maxSize;
+
+    /**
+     * Time in milliseconds after which a cached user is reloaded.
+     * Loaded from application properties: {@code app.cache.users.ttl}.
+     */
+    @Value("${app.cache.users.ttl}")
+    private long ttl;
+
+    private AsyncCache<String, User> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Returns the cached user, loading and caching it on a miss.
+     * <p>
+     * Only the pending load is installed inside the cache's {@code compute}; the loader itself
+     * runs afterwards on the calling thread. Running the database query inside {@code compute}
+     * would hold a monitor and so pin a virtual thread to its carrier for the whole round trip.
+     * A load that finds no user, or fails, is removed from the cache again.
+     * </p>
+     *
+     * @param username the username to look up
+     * @param loader   loads the user from the database, returning {@code null} if there is none
+     * @return the user, or {@code null} if the loader found none
+     */
+    public User get(String username, Function<String, User> loader) {
+        CompletableFuture<User> load = new CompletableFuture<>();
+        CompletableFuture<User> user = cache.get(username, (name, executor) -> load);
+        if (user == load) {
+            try {
+                load.complete(loader.apply(username));
+            } catch (RuntimeException ex) {
+                load.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return user.join();
+        } catch (CompletionException ex) {
+            // Another lookup's load failed; this one tries on its own.
+            return loader.apply(username);
+        }
+    }
+
+    /**
+     * Removes a user from the cache, so that the next lookup reads it from the database.
+     * <p>
+     * A load in flight is removed as well, so its result is not cached.
+     * </p>
+     *
+     * @param username the username of the user that changed
+     */
+    public void evict(String username) {
+        cache.synchronous().invalidate(username);
+    }
+
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+
+    public long getSize() {
+        return cache.synchronous().estimatedSize();
+    }
+}
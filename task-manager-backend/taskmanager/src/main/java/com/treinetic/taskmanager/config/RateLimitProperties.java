@@ -0,0 +1,49 @@
+package com.treinetic.taskmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Rate limits applied by {@link com.treinetic.taskmanager.security.RateLimitFilter}.
+ * <p>
+ * Bound from {@code app.rate-limit}. Each route is a token bucket: a client may send up to
+ * {@code capacity} requests in a burst, and regains {@code refillPerSecond} requests per second
+ * after that. Routes are matched in order against the request path (without the context path),
+ * and only the first matching route applies; requests matching no route are not limited.
+ * </p>
+ *
+ * @param enabled     whether requests are rate limited at all
+ * @param idleTimeout how long a client's bucket is kept after its last request; an evicted bucket starts full again
+ * @param maxBuckets  the maximum number of buckets kept, so that many distinct clients cannot exhaust memory
+ * @param routes      the limited routes, in matching order
+ */
+@ConfigurationProperties("app.rate-limit")
+public record RateLimitProperties(boolean enabled, Duration idleTimeout, long maxBuckets, List<Route> routes) {
+
+    /**
+     * The limit of one route.
+     *
+     * @param path            the path pattern, e.g. {@code /api/tasks/**}
+     * @param key             whose requests share a bucket
+     * @param capacity        the largest burst of requests allowed
+     * @param refillPerSecond the sustained number of requests allowed per second
+     */
+    public record Route(String path, Key key, long capacity, double refillPerSecond) {
+    }
+
+    /**
+     * What a bucket is keyed by.
+     */
+    public enum Key {
+        /**
+         * The client's IP address, for endpoints used before a client has a token.
+         */
+        IP,
+        /**
+         * The authenticated username, falling back to the client's IP address for anonymous requests.
+         */
+        USER
+    }
+}
@@ -1,7 +1,12 @@
 package com.treinetic.taskmanager.config;
 
+import com.treinetic.taskmanager.security.BoundedPasswordEncoder;
 import com.treinetic.taskmanager.security.JwtAuthFilter;
+import com.treinetic.taskmanager.security.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,18 +16,43 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final JwtAuthFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
     private final UserDetailsService userDetailsService;
+    private final UserDetailsPasswordService userDetailsPasswordService;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * BCrypt work factor for new hashes; existing hashes are re-hashed on the next successful login.
+     * Loaded from application properties: {@code app.security.bcrypt.strength}.
+     */
+    @Value("${app.security.bcrypt.strength}")
+    private int bcryptStrength;
+
+    /**
+     * Number of passwords hashed at once, {@code 0} for one per available core.
+     * Loaded from application properties: {@code app.security.bcrypt.threads}.
+     */
+    @Value("${app.security.bcrypt.threads}")
+    private int bcryptThreads;
+
+    /**
+     * Number of hashing requests allowed to wait before further ones are rejected.
+     * Loaded from application properties: {@code app.security.bcrypt.queue-capacity}.
+     */
+    @Value("${app.security.bcrypt.queue-capacity}")
+    private int bcryptQueueCapacity;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -37,7 +67,8 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authenticationProvider(authenticationProvider())
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthFilter.class);
 
         return http.build();
     }
@@ -47,12 +78,13 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setUserDetailsPasswordService(userDetailsPasswordService);
         return authProvider;
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new BoundedPasswordEncoder(bcryptStrength, bcryptThreads, bcryptQueueCapacity, meterRegistry);
     }
 
     @Bean
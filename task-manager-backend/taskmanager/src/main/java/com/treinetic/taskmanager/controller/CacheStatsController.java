@@ -0,0 +1,43 @@
+package com.treinetic.taskmanager.controller;
+
+import com.treinetic.taskmanager.cache.TaskCache;
+import com.treinetic.taskmanager.cache.TaskSummaryCache;
+import com.treinetic.taskmanager.cache.UserCache;
+import com.treinetic.taskmanager.dto.CacheStatsResponse;
+import com.treinetic.taskmanager.security.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST controller exposing the statistics of the application's in-process caches.
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheStatsController {
+    private final JwtService jwtService;
+    private final UserCache userCache;
+    private final TaskCache taskCache;
+    private final TaskSummaryCache taskSummaryCache;
+
+    /**
+     * Get the hit and miss counters of every in-process cache, keyed by cache name.
+     *
+     * @return A map of cache name to its {@link CacheStatsResponse}.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, CacheStatsResponse>> getCacheStats() {
+        Map<String, CacheStatsResponse> stats = new LinkedHashMap<>();
+        stats.put("jwtClaims", CacheStatsResponse.of(jwtService.getClaimsCacheStats(), jwtService.getClaimsCacheSize()));
+        stats.put("users", CacheStatsResponse.of(userCache.getStats(), userCache.getSize()));
+        stats.put("tasks", CacheStatsResponse.of(taskCache.getStats(), taskCache.getSize()));
+        stats.put("taskSummaries", CacheStatsResponse.of(taskSummaryCache.getStats(), taskSummaryCache.getSize()));
+        return ResponseEntity.ok(stats);
+    }
+}
@@ -1,70 +1,278 @@
 package com.treinetic.taskmanager.controller;
 
+import com.treinetic.taskmanager.dto.TaskBatchRequest;
+import com.treinetic.taskmanager.dto.TaskBatchResponse;
+import com.treinetic.taskmanager.dto.TaskChangesResponse;
+import com.treinetic.taskmanager.dto.TaskCollectionVersion;
+import com.treinetic.taskmanager.dto.TaskImportResponse;
+import com.treinetic.taskmanager.dto.TaskPageResponse;
+import com.treinetic.taskmanager.dto.TaskQuery;
 import com.treinetic.taskmanager.dto.TaskRequest;
 import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.dto.TaskSummaryResponse;
+import com.treinetic.taskmanager.export.TaskExportFormat;
+import com.treinetic.taskmanager.service.TaskImportService;
 import com.treinetic.taskmanager.service.TaskService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
  * REST controller for managing tasks.
+ * <p>
+ * Read endpoints support conditional requests: responses carry an {@code ETag} and
+ * {@code Last-Modified} header, and a request whose {@code If-None-Match} or
+ * {@code If-Modified-Since} header still matches is answered with {@code 304 Not Modified}.
+ * For listings and search this check only reads the user's collection watermark, so an
+ * unchanged list is neither queried nor rebuilt. See {@link TaskETags}.
+ * </p>
  */
 @RestController
 @RequestMapping("/api/tasks")
 @RequiredArgsConstructor
 public class TaskController {
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
 
     /**
-     * Get all tasks for the currently authenticated user.
+     * Get a page of tasks for the currently authenticated user.
+     * <p>
+     * Supports filtering by status, creation date range and title prefix, ordering by
+     * creation date, and cursor pagination; see {@link TaskQuery} for the parameters.
+     * </p>
      *
-     * @return A list of TaskResponse objects representing the user's tasks.
+     * @param taskQuery The filters, ordering, cursor and page size, bound from the query string.
+     * @param request   The current request, used to evaluate conditional request headers.
+     * @return A TaskPageResponse holding the matching tasks and the cursor for the next page,
+     * or 304 Not Modified if the client's copy is still current.
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        return ResponseEntity.ok(taskService.getAllTasksForCurrentUser());
+    public ResponseEntity<TaskPageResponse> getAllTasks(TaskQuery taskQuery, WebRequest request) {
+        TaskCollectionVersion version = taskService.getCollectionVersion();
+        if (request.checkNotModified(TaskETags.of(version), TaskETags.toEpochMillis(version.lastModified()))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(TaskETags.REVALIDATE)
+                .body(taskService.getTasksForCurrentUser(taskQuery));
+    }
+
+    /**
+     * Search the current user's tasks by title and description, best match first.
+     *
+     * @param q     The free-text query.
+     * @param limit The maximum number of results; capped by {@code app.search.max-results}.
+     * @param request The current request, used to evaluate conditional request headers.
+     * @return A list of TaskResponse objects ordered by relevance, or 304 Not Modified if the client's copy is still current.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponse>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit,
+            WebRequest request
+    ) {
+        TaskCollectionVersion version = taskService.getCollectionVersion();
+        if (request.checkNotModified(TaskETags.of(version), TaskETags.toEpochMillis(version.lastModified()))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(TaskETags.REVALIDATE)
+                .body(taskService.searchTasks(q, limit));
+    }
+
+    /**
+     * Export all of the current user's tasks as NDJSON or CSV, oldest first.
+     * <p>
+     * Rows are written to the response as they are read from the database, so the export is
+     * never held in memory; the client receives it as a chunked download. Like the listing,
+     * the export carries the collection's ETag and is answered with 304 Not Modified if the
+     * client's copy is still current.
+     * </p>
+     *
+     * @param format   The format of the export, {@code ndjson} (default) or {@code csv}.
+     * @param request  The current request, used to evaluate conditional request headers.
+     * @param response The response the export is written to.
+     * @throws IOException if writing the response fails, e.g. because the client went away
+     */
+    @GetMapping("/export")
+    public void exportTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            WebRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        TaskExportFormat exportFormat = TaskExportFormat.from(format);
+        TaskCollectionVersion version = taskService.getCollectionVersion();
+        if (request.checkNotModified(TaskETags.of(version), TaskETags.toEpochMillis(version.lastModified()))) {
+            return;
+        }
+        response.setContentType(exportFormat.getMediaType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, TaskETags.REVALIDATE.getHeaderValue());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("tasks." + exportFormat.getFileExtension())
+                .build()
+                .toString());
+        Writer out = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        taskService.exportTasks(exportFormat, out);
+    }
+
+    /**
+     * Get the number of the current user's tasks in each status, for the dashboard.
+     *
+     * @return A TaskSummaryResponse with the count per status and the total.
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<TaskSummaryResponse> getSummary() {
+        return ResponseEntity.ok(taskService.getSummary());
+    }
+
+    /**
+     * Get the changes to the current user's tasks since a sync cursor, for offline clients.
+     * <p>
+     * Returns the tasks created or updated and the IDs of the tasks deleted after the cursor,
+     * and the cursor to pass next time. Without {@code since}, all tasks are returned.
+     * </p>
+     *
+     * @param since The cursor returned by the previous sync, if any.
+     * @param limit The maximum number of changes; capped by {@code app.tasks.changes.max-size}.
+     * @return A TaskChangesResponse with the changes and the next cursor.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getChanges(
+            @RequestParam(required = false) Long since,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(taskService.getChanges(since, limit));
+    }
+
+    /**
+     * Stream changes to the current user's tasks as server-sent events.
+     * <p>
+     * Each committed change is sent as a {@code task} event whose data is the change as JSON:
+     * its {@code type} ({@code CREATED}, {@code UPDATED} or {@code DELETED}), {@code taskId} and,
+     * unless deleted, the {@code task} itself. A {@code reset} event means the client fell too far
+     * behind and missed changes; the stream then ends and the client should reload its tasks.
+     * Idle streams receive a comment every {@code app.stream.heartbeat-interval}.
+     * </p>
+     *
+     * @return The emitter the events are written to; the request thread is released immediately.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskChanges() {
+        return taskService.subscribeToChanges();
     }
 
     /**
      * Get a specific task by its ID.
      *
-     * @param id The ID of the task to retrieve.
-     * @return A TaskResponse object representing the task.
+     * @param id      The ID of the task to retrieve.
+     * @param request The current request, used to evaluate conditional request headers.
+     * @return A TaskResponse object representing the task, or 304 Not Modified if the client's copy is still current.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id, WebRequest request) {
+        TaskResponse task = taskService.getTaskById(id);
+        if (request.checkNotModified(TaskETags.of(task), TaskETags.toEpochMillis(task.getUpdatedAt()))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(TaskETags.REVALIDATE)
+                .body(task);
     }
 
     /**
      * Create a new task for the current user.
      *
      * @param taskRequest The request body containing task data.
-     * @return The created TaskResponse object with a 201 Created status.
+     * @return The created TaskResponse object with a 201 Created status and its ETag.
      */
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(@Valid @RequestBody TaskRequest taskRequest) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(taskService.createTask(taskRequest));
+        TaskResponse task = taskService.createTask(taskRequest);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(TaskETags.of(task))
+                .body(task);
+    }
+
+    /**
+     * Create, change the status of, or delete many of the current user's tasks in one request.
+     * <p>
+     * Every operation gets its own result; operations that fail validation or refer to a task
+     * the user does not own are reported as such without affecting the others.
+     * </p>
+     *
+     * @param batchRequest The request body containing the operations, applied in order.
+     * @return A TaskBatchResponse with one result per operation.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponse> applyBatch(@Valid @RequestBody TaskBatchRequest batchRequest) {
+        return ResponseEntity.ok(taskService.applyBatch(batchRequest));
+    }
+
+    /**
+     * Import many tasks for the current user from an NDJSON or CSV request body.
+     * <p>
+     * The body is parsed as it is received and written in chunks, so uploads of any size are
+     * imported in constant memory. Rows that are malformed or fail validation are skipped and
+     * reported by line number; the other rows are imported.
+     * </p>
+     *
+     * @param format  The format of the body, {@code ndjson} (default) or {@code csv}.
+     * @param request The current request, whose body is read as UTF-8.
+     * @return A TaskImportResponse with the number of rows imported and the rejected rows.
+     * @throws IOException if reading the request body fails
+     */
+    @PostMapping("/import")
+    public ResponseEntity<TaskImportResponse> importTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request
+    ) throws IOException {
+        TaskExportFormat importFormat = TaskExportFormat.from(format);
+        Reader in = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        return ResponseEntity.ok(taskImportService.importTasks(importFormat, in));
     }
 
     /**
      * Update an existing task by its ID.
+     * <p>
+     * With an {@code If-Match} header holding the task's ETag, the update is only applied if
+     * nobody has changed the task since; otherwise it is rejected with 412 Precondition Failed.
+     * </p>
      *
      * @param id          The ID of the task to update.
      * @param taskRequest The request body containing updated task data.
-     * @return The updated TaskResponse object.
+     * @param ifMatch     The ETags of the versions the client accepts, if any.
+     * @return The updated TaskResponse object, with the ETag of its new version.
      */
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable Long id,
-            @Valid @RequestBody TaskRequest taskRequest
+            @Valid @RequestBody TaskRequest taskRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return ResponseEntity.ok(taskService.updateTask(id, taskRequest));
+        TaskResponse task = taskService.updateTask(id, taskRequest, TaskETags.expectedVersions(ifMatch, id));
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(task))
+                .body(task);
     }
 
     /**
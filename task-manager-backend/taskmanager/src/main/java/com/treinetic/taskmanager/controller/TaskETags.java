@@ -0,0 +1,88 @@
+package com.treinetic.taskmanager.controller;
+
+import com.treinetic.taskmanager.dto.TaskCollectionVersion;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.exception.PreconditionFailedException;
+import org.springframework.http.CacheControl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Entity tags and modification times for task resources.
+ * <p>
+ * A single task is tagged with its own version. A task listing is tagged with the owner's
+ * collection version, which changes whenever any of their tasks does; since the query string
+ * is part of the cache key, the same tag is valid for every filter and page of the listing.
+ * </p>
+ *
+ * <p>
+ * Task tags are strong, so clients can send them back in {@code If-Match} to make an update
+ * conditional on the version they last saw.
+ * </p>
+ */
+final class TaskETags {
+    /**
+     * Lets clients store task responses but makes them revalidate with the server before every reuse.
+     */
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private TaskETags() {
+    }
+
+    static String of(TaskResponse task) {
+        return "\"" + task.getId() + "-" + task.getVersion() + "\"";
+    }
+
+    static String of(TaskCollectionVersion collection) {
+        return "\"c" + collection.userId() + "-" + collection.version() + "\"";
+    }
+
+    /**
+     * Extracts the task versions a client accepts from an {@code If-Match} header.
+     * <p>
+     * The header may list several tags; the precondition holds if any of them is the task's
+     * current one, so every strong tag of the task is collected, not just the first.
+     * </p>
+     *
+     * @param ifMatch the header value, possibly {@code null}
+     * @param taskId  the ID of the task being modified
+     * @return the accepted versions, or {@code null} if the request is unconditional ({@code null} or {@code *})
+     * @throws PreconditionFailedException if no strong tag in the header can match the task
+     */
+    static Set<Long> expectedVersions(String ifMatch, Long taskId) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = taskId + "-";
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            // Weak tags never match an If-Match precondition.
+            if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+                continue;
+            }
+            String value = tag.substring(1, tag.length() - 1);
+            if (value.startsWith(prefix)) {
+                try {
+                    versions.add(Long.parseLong(value.substring(prefix.length())));
+                } catch (NumberFormatException ex) {
+                    // Not one of our tags; it cannot match.
+                }
+            }
+        }
+        if (versions.isEmpty()) {
+            throw new PreconditionFailedException("If-Match does not match the current version of task " + taskId);
+        }
+        return versions;
+    }
+
+    /**
+     * Converts a server-local timestamp to epoch milliseconds, or {@code -1} if unknown.
+     */
+    static long toEpochMillis(LocalDateTime timestamp) {
+        return timestamp == null ? -1 : timestamp.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
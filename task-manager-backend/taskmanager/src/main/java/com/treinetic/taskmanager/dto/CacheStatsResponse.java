@@ -0,0 +1,49 @@
+package com.treinetic.taskmanager.dto;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.*;
+
+/**
+ * Represents the hit, miss and eviction counters of an in-process cache.
+ * <p>
+ * Counters are cumulative since the application started.
+ * </p>
+ *
+ * <p>
+ * Lombok annotations used:
+ * <ul>
+ *   <li>{@code @Data} - Generates getters, setters, equals, hashCode, and toString</li>
+ *   <li>{@code @NoArgsConstructor} - No-argument constructor</li>
+ *   <li>{@code @AllArgsConstructor} - All-argument constructor</li>
+ *   <li>{@code @Builder} - Enables the builder pattern</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponse {
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+    private long size;
+
+    /**
+     * Builds the response from a Caffeine statistics snapshot.
+     *
+     * @param stats the statistics snapshot
+     * @param size  the current number of entries in the cache
+     * @return the corresponding {@link CacheStatsResponse}
+     */
+    public static CacheStatsResponse of(CacheStats stats, long size) {
+        return CacheStatsResponse.builder()
+                .hits(stats.hitCount())
+                .misses(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictions(stats.evictionCount())
+                .size(size)
+                .build();
+    }
+}
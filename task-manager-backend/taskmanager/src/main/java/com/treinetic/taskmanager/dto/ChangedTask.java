@@ -0,0 +1,22 @@
+package com.treinetic.taskmanager.dto;
+
+import com.treinetic.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task read for delta sync, with the watermark version of its last change.
+ *
+ * @param changeVersion the owner's watermark version when the task last changed
+ * @param task          the task itself
+ */
+public record ChangedTask(long changeVersion, TaskResponse task) {
+
+    /**
+     * Builds the row from the flat columns selected by a JPQL constructor expression.
+     */
+    public ChangedTask(long changeVersion, Long id, String title, String description, TaskStatus status,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Long version, Long userId, String username) {
+        this(changeVersion, new TaskResponse(id, title, description, status, createdAt, updatedAt, version, userId, username));
+    }
+}
@@ -0,0 +1,42 @@
+package com.treinetic.taskmanager.dto;
+
+import com.treinetic.taskmanager.model.TaskStatus;
+import lombok.*;
+
+/**
+ * Represents a single operation inside a {@link TaskBatchRequest}.
+ * <p>
+ * Which fields are required depends on the {@code type}:
+ * <ul>
+ *   <li>{@code CREATE} - {@code task} holds the new task, validated like a single create request</li>
+ *   <li>{@code UPDATE_STATUS} - {@code id} of the task and its new {@code status}</li>
+ *   <li>{@code DELETE} - {@code id} of the task</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Lombok annotations used:
+ * <ul>
+ *   <li>{@code @Data} - Generates getters, setters, equals, hashCode, and toString</li>
+ *   <li>{@code @NoArgsConstructor} - No-argument constructor</li>
+ *   <li>{@code @AllArgsConstructor} - All-argument constructor</li>
+ *   <li>{@code @Builder} - Enables the builder pattern</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchOperation {
+    private Type type;
+    private Long id;
+    private TaskStatus status;
+    private TaskRequest task;
+
+    public enum Type {
+        CREATE,
+        UPDATE_STATUS,
+        DELETE
+    }
+}
@@ -0,0 +1,33 @@
+package com.treinetic.taskmanager.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Represents a batch of task operations submitted in a single request.
+ * <p>
+ * Operations are applied in order. Each one is validated and checked for ownership on
+ * its own, and gets its own entry in the {@link TaskBatchResponse}; a rejected operation
+ * does not prevent the others from being applied.
+ * </p>
+ *
+ * <p>
+ * Lombok annotations used:
+ * <ul>
+ *   <li>{@code @Data} - Generates getters, setters, equals, hashCode, and toString</li>
+ *   <li>{@code @NoArgsConstructor} - No-argument constructor</li>
+ *   <li>{@code @AllArgsConstructor} - All-argument constructor</li>
+ *   <li>{@code @Builder} - Enables the builder pattern</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchRequest {
+    @NotEmpty(message = "At least one operation is required")
+    private List<TaskBatchOperation> operations;
+}
@@ -0,0 +1,29 @@
+package com.treinetic.taskmanager.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Represents the outcome of a batch request, with one result per submitted operation
+ * in the order they were submitted.
+ *
+ * <p>
+ * Lombok annotations used:
+ * <ul>
+ *   <li>{@code @Data} - Generates getters, setters, equals, hashCode, and toString</li>
+ *   <li>{@code @NoArgsConstructor} - No-argument constructor</li>
+ *   <li>{@code @AllArgsConstructor} - All-argument constructor</li>
+ *   <li>{@code @Builder} - Enables the builder pattern</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchResponse {
+    private List<TaskBatchResult> results;
+    private int succeeded;
+    private int failed;
+}
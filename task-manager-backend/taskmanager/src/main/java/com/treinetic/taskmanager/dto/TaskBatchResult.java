@@ -0,0 +1,35 @@
+package com.treinetic.taskmanager.dto;
+
+import lombok.*;
+
+/**
+ * Represents the outcome of one operation of a batch request.
+ * <p>
+ * {@code status} is the HTTP status the operation would have produced as a single request
+ * ({@code 201}, {@code 200} or {@code 204} on success; {@code 400}, {@code 403} or
+ * {@code 404} on failure), and {@code error} explains a failure. {@code task} holds the
+ * created or updated task and is {@code null} for deletes and failures.
+ * </p>
+ *
+ * <p>
+ * Lombok annotations used:
+ * <ul>
+ *   <li>{@code @Data} - Generates getters, setters, equals, hashCode, and toString</li>
+ *   <li>{@code @NoArgsConstructor} - No-argument constructor</li>
+ *   <li>{@code @AllArgsConstructor} - All-argument constructor</li>
+ *   <li>{@code @Builder} - Enables the builder pattern</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchResult {
+    private int index;
+    private TaskBatchOperation.Type type;
+    private Long id;
+    private int status;
+    private String error;
+    private TaskResponse task;
+}
@@ -0,0 +1,41 @@
+package com.treinetic.taskmanager.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Represents the changes to a user's tasks since a sync cursor.
+ * <p>
+ * {@code changed} holds the current state of every task created or updated after the cursor,
+ * and {@code deleted} the IDs of the tasks deleted after it. The client applies both and keeps
+ * {@code cursor} for its next request; while {@code hasMore} is set, more changes can be read
+ * right away with that cursor.
+ * </p>
+ *
+ * <p>
+ * {@code resetRequired} means the cursor is older than the oldest deletion still on record, so
+ * the client may have missed deletions; it should discard its tasks and sync without a cursor.
+ * </p>
+ *
+ * <p>
+ * Lombok annotations used:
+ * <ul>
+ *   <li>{@code @Data} - Generates getters, setters, equals, hashCode, and toString</li>
+ *   <li>{@code @NoArgsConstructor} - No-argument constructor</li>
+ *   <li>{@code @AllArgsConstructor} - All-argument constructor</li>
+ *   <li>{@code @Builder} - Enables the builder pattern</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskChangesResponse {
+    private List<TaskResponse> changed;
+    private List<Long> deleted;
+    private long cursor;
+    private boolean hasMore;
+    private boolean resetRequired;
+}
@@ -0,0 +1,13 @@
+package com.treinetic.taskmanager.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The current state of a user's task collection, as recorded by its watermark.
+ *
+ * @param userId       the ID of the user owning the collection
+ * @param version      incremented on every change; {@code 0} if nothing has changed since watermarks were introduced
+ * @param lastModified when the collection last changed, or {@code null} if unknown
+ */
+public record TaskCollectionVersion(Long userId, long version, LocalDateTime lastModified) {
+}
@@ -0,0 +1,66 @@
+package com.treinetic.taskmanager.dto;
+
+import com.treinetic.taskmanager.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last task on a page, used for keyset pagination.
+ * <p>
+ * Tasks are ordered by {@code (createdAt, id)}, so the pair identifies a unique
+ * position in the listing. It is handed to clients as an opaque, URL-safe
+ * Base64 string so that the encoding can change without breaking them.
+ * </p>
+ *
+ * @param createdAt the creation timestamp of the last task on the page
+ * @param id        the ID of the last task on the page
+ */
+public record TaskCursor(LocalDateTime createdAt, Long id) {
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Builds the cursor pointing at the given task.
+     *
+     * @param task the last task of a page
+     * @return the cursor positioned after that task
+     */
+    public static TaskCursor of(TaskResponse task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param value the opaque cursor string sent by the client
+     * @return the decoded cursor
+     * @throws BadRequestException if the value is not a valid cursor
+     */
+    public static TaskCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new TaskCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque, URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
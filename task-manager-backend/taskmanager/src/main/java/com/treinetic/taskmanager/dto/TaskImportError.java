@@ -0,0 +1,29 @@
+package com.treinetic.taskmanager.dto;
+
+import lombok.*;
+
+/**
+ * Represents a row of an import that was rejected.
+ * <p>
+ * {@code line} is the line of the file the row starts on, counting from 1 and including
+ * the CSV header, and {@code error} explains why the row was not imported.
+ * </p>
+ *
+ * <p>
+ * Lombok annotations used:
+ * <ul>
+ *   <li>{@code @Data} - Generates getters, setters, equals, hashCode, and toString</li>
+ *   <li>{@code @NoArgsConstructor} - No-argument constructor</li>
+ *   <li>{@code @AllArgsConstructor} - All-argument constructor</li>
+ *   <li>{@code @Builder} - Enables the builder pattern</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportError {
+    private long line;
+    private String error;
+}
@@ -0,0 +1,35 @@
+package com.treinetic.taskmanager.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Represents the outcome of a task import.
+ * <p>
+ * {@code processed} counts every row read, of which {@code imported} were created and
+ * {@code failed} were rejected. Only the first rejected rows are listed in {@code errors}
+ * ({@code app.tasks.import.max-errors}); {@code errorsTruncated} tells whether there were more.
+ * </p>
+ *
+ * <p>
+ * Lombok annotations used:
+ * <ul>
+ *   <li>{@code @Data} - Generates getters, setters, equals, hashCode, and toString</li>
+ *   <li>{@code @NoArgsConstructor} - No-argument constructor</li>
+ *   <li>{@code @AllArgsConstructor} - All-argument constructor</li>
+ *   <li>{@code @Builder} - Enables the builder pattern</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskImportResponse {
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<TaskImportError> errors;
+    private boolean errorsTruncated;
+}
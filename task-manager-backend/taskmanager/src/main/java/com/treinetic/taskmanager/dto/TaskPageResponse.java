@@ -0,0 +1,33 @@
+package com.treinetic.taskmanager.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Represents a single page of tasks returned by a keyset-paginated listing.
+ * <p>
+ * The {@code nextCursor} is an opaque value that the client passes back
+ * unchanged to fetch the following page. It is {@code null} when there
+ * are no more tasks to read.
+ * </p>
+ *
+ * <p>
+ * Lombok annotations used:
+ * <ul>
+ *   <li>{@code @Data} - Generates getters, setters, equals, hashCode, and toString</li>
+ *   <li>{@code @NoArgsConstructor} - No-argument constructor</li>
+ *   <li>{@code @AllArgsConstructor} - All-argument constructor</li>
+ *   <li>{@code @Builder} - Enables the builder pattern</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPageResponse {
+    private List<TaskResponse> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,52 @@
+package com.treinetic.taskmanager.dto;
+
+import com.treinetic.taskmanager.model.TaskStatus;
+import lombok.*;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the query parameters accepted when listing tasks.
+ * <p>
+ * All filters are optional and are combined with {@code AND}. Tasks are always
+ * ordered by {@code (createdAt, id)} in the requested {@code direction}, which is
+ * what allows the listing to be paginated with a keyset {@link TaskCursor}.
+ * </p>
+ *
+ * <p>
+ * Supported parameters:
+ * <ul>
+ *   <li>{@code status} - only return tasks in this status</li>
+ *   <li>{@code createdFrom} - only return tasks created at or after this ISO date-time</li>
+ *   <li>{@code createdTo} - only return tasks created before this ISO date-time</li>
+ *   <li>{@code titlePrefix} - only return tasks whose title starts with this text</li>
+ *   <li>{@code direction} - {@code DESC} (newest first, default) or {@code ASC}</li>
+ *   <li>{@code cursor} - the cursor returned with the previous page</li>
+ *   <li>{@code limit} - the maximum number of tasks to return</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskQuery {
+    private TaskStatus status;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    private String titlePrefix;
+
+    @Builder.Default
+    private Sort.Direction direction = Sort.Direction.DESC;
+
+    private String cursor;
+
+    private Integer limit;
+}
@@ -1,6 +1,8 @@
 package com.treinetic.taskmanager.dto;
 
+import com.treinetic.taskmanager.model.TaskStatus;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
@@ -16,7 +18,7 @@ import lombok.*;
  * <ul>
  *   <li>{@code title} must be non-blank and not exceed 100 characters</li>
  *   <li>{@code description} is optional but cannot exceed 500 characters</li>
- *   <li>{@code status} must be non-blank</li>
+ *   <li>{@code status} must be one of the {@link TaskStatus} values</li>
  * </ul>
  * </p>
  *
@@ -40,6 +42,6 @@ public class TaskRequest {
     private String title;
     @Size(max = 500, message = "Description must be less than 500 characters")
     private String description;
-    @NotBlank(message = "Status is required")
-    private String status;
+    @NotNull(message = "Status is required")
+    private TaskStatus status;
 }
\ No newline at end of file
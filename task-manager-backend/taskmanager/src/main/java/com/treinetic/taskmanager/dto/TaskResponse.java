@@ -1,5 +1,6 @@
 package com.treinetic.taskmanager.dto;
 
+import com.treinetic.taskmanager.model.TaskStatus;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -29,8 +30,10 @@ public class TaskResponse {
     private Long id;
     private String title;
     private String description;
-    private String status;
+    private TaskStatus status;
     private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
     private Long userId;
     private String username;
 }
\ No newline at end of file
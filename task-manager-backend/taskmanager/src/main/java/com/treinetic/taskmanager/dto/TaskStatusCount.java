@@ -0,0 +1,13 @@
+package com.treinetic.taskmanager.dto;
+
+import com.treinetic.taskmanager.model.TaskStatus;
+
+/**
+ * The number of a user's tasks in one status, as counted from the {@code task} table.
+ *
+ * @param userId the ID of the user owning the tasks
+ * @param status the status
+ * @param count  the number of the user's tasks in that status
+ */
+public record TaskStatusCount(Long userId, TaskStatus status, long count) {
+}
@@ -0,0 +1,27 @@
+package com.treinetic.taskmanager.dto;
+
+import lombok.*;
+
+/**
+ * Represents the number of the user's tasks in each status, for the dashboard.
+ *
+ * <p>
+ * Lombok annotations used:
+ * <ul>
+ *   <li>{@code @Data} - Generates getters, setters, equals, hashCode, and toString</li>
+ *   <li>{@code @NoArgsConstructor} - No-argument constructor</li>
+ *   <li>{@code @AllArgsConstructor} - All-argument constructor</li>
+ *   <li>{@code @Builder} - Enables the builder pattern</li>
+ * </ul>
+ * </p>
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSummaryResponse {
+    private long toDo;
+    private long inProgress;
+    private long done;
+    private long total;
+}
@@ -0,0 +1,37 @@
+package com.treinetic.taskmanager.event;
+
+import com.treinetic.taskmanager.dto.TaskResponse;
+
+/**
+ * Application event published by the task service whenever a task is created,
+ * updated or deleted.
+ * <p>
+ * Listeners that keep derived state (such as the search index) in sync should use
+ * {@code @TransactionalEventListener} so they only see changes that were committed.
+ * </p>
+ *
+ * @param type   what happened to the task
+ * @param userId the ID of the user owning the task
+ * @param taskId the ID of the task
+ * @param task   the state of the task after the change, or {@code null} when it was deleted
+ */
+public record TaskChangedEvent(Type type, Long userId, Long taskId, TaskResponse task) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static TaskChangedEvent created(TaskResponse task) {
+        return new TaskChangedEvent(Type.CREATED, task.getUserId(), task.getId(), task);
+    }
+
+    public static TaskChangedEvent updated(TaskResponse task) {
+        return new TaskChangedEvent(Type.UPDATED, task.getUserId(), task.getId(), task);
+    }
+
+    public static TaskChangedEvent deleted(Long userId, Long taskId) {
+        return new TaskChangedEvent(Type.DELETED, userId, taskId, null);
+    }
+}
@@ -0,0 +1,18 @@
+package com.treinetic.taskmanager.event;
+
+/**
+ * Application event published by the task service whenever a write changes how many tasks a
+ * user has in some status.
+ * <p>
+ * The counts are deltas, not totals. Listeners holding counters in memory should use
+ * {@code @TransactionalEventListener} so they only apply changes that were committed.
+ * </p>
+ *
+ * @param userId        the ID of the user owning the tasks
+ * @param changeVersion the user's watermark version of the change
+ * @param toDo          the change in the number of {@code TO_DO} tasks
+ * @param inProgress    the change in the number of {@code IN_PROGRESS} tasks
+ * @param done          the change in the number of {@code DONE} tasks
+ */
+public record TaskSummaryChangedEvent(Long userId, long changeVersion, long toDo, long inProgress, long done) {
+}
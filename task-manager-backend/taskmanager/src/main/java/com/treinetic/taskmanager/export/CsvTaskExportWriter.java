@@ -0,0 +1,92 @@
+package com.treinetic.taskmanager.export;
+
+import com.treinetic.taskmanager.dto.TaskResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes tasks as CSV, with a header row and CRLF line endings.
+ * <p>
+ * Values containing a comma, a double quote or a line break are enclosed in double quotes,
+ * with embedded quotes doubled. Missing values are written as empty fields.
+ * </p>
+ */
+class CsvTaskExportWriter implements TaskExportWriter {
+    private static final String HEADER = "id,title,description,status,createdAt,updatedAt,version,userId,username";
+    private static final String LINE_END = "\r\n";
+
+    private final Writer out;
+    private boolean headerWritten;
+
+    CsvTaskExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(TaskResponse task) throws IOException {
+        writeHeaderOnce();
+        field(task.getId());
+        out.write(',');
+        field(task.getTitle());
+        out.write(',');
+        field(task.getDescription());
+        out.write(',');
+        field(task.getStatus());
+        out.write(',');
+        field(task.getCreatedAt());
+        out.write(',');
+        field(task.getUpdatedAt());
+        out.write(',');
+        field(task.getVersion());
+        out.write(',');
+        field(task.getUserId());
+        out.write(',');
+        field(task.getUsername());
+        out.write(LINE_END);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writeHeaderOnce();
+        out.flush();
+    }
+
+    private void writeHeaderOnce() throws IOException {
+        if (!headerWritten) {
+            out.write(HEADER);
+            out.write(LINE_END);
+            headerWritten = true;
+        }
+    }
+
+    private void field(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!needsQuoting(text)) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
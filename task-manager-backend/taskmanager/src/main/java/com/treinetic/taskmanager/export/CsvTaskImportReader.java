@@ -0,0 +1,165 @@
+package com.treinetic.taskmanager.export;
+
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.exception.BadRequestException;
+import com.treinetic.taskmanager.model.TaskStatus;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads tasks from CSV quoted as described in RFC 4180.
+ * <p>
+ * The first row must be a header naming the columns. The {@code title} and {@code status}
+ * columns are required and {@code description} is optional; any other column is ignored,
+ * so a CSV export can be imported as is. Empty fields are read as missing values, and rows
+ * may end with either CRLF or LF.
+ * </p>
+ */
+class CsvTaskImportReader implements TaskImportReader {
+    private final Reader in;
+    private final StringBuilder field = new StringBuilder();
+    private long line = 1;
+    private long rowLine;
+    private int rowLength;
+
+    private int columnCount = -1;
+    private int titleColumn;
+    private int descriptionColumn;
+    private int statusColumn;
+
+    CsvTaskImportReader(Reader in) {
+        this.in = in;
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        if (columnCount < 0) {
+            readHeader();
+        }
+        List<String> fields = readRow();
+        if (fields == null) {
+            return null;
+        }
+        if (rowLength > MAX_ROW_LENGTH) {
+            return TaskImportRow.invalid(rowLine, "Row is longer than " + MAX_ROW_LENGTH + " characters");
+        }
+        if (fields.size() != columnCount) {
+            return TaskImportRow.invalid(rowLine, "Expected " + columnCount + " columns but found " + fields.size());
+        }
+        String status = fields.get(statusColumn);
+        TaskRequest task = TaskRequest.builder()
+                .title(fields.get(titleColumn))
+                .description(descriptionColumn < 0 ? null : fields.get(descriptionColumn))
+                .build();
+        if (status != null) {
+            try {
+                task.setStatus(TaskStatus.valueOf(status.strip().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException ex) {
+                return TaskImportRow.invalid(rowLine, "Unknown status: " + status);
+            }
+        }
+        return TaskImportRow.of(rowLine, task);
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRow();
+        if (header == null) {
+            throw new BadRequestException("CSV header is missing");
+        }
+        titleColumn = -1;
+        descriptionColumn = -1;
+        statusColumn = -1;
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i) == null ? "" : header.get(i).replace("\uFEFF", "").strip().toLowerCase(Locale.ROOT);
+            switch (name) {
+                case "title" -> titleColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "status" -> statusColumn = i;
+                default -> {
+                    // Columns such as id or createdAt are assigned on import.
+                }
+            }
+        }
+        if (titleColumn < 0 || statusColumn < 0) {
+            throw new BadRequestException("CSV header must name the title and status columns");
+        }
+        columnCount = header.size();
+    }
+
+    /**
+     * Reads the fields of the next non-blank row.
+     *
+     * @return the fields, with empty ones as {@code null}, or {@code null} at the end of the input
+     */
+    private List<String> readRow() throws IOException {
+        int c = in.read();
+        while (c == '\r' || c == '\n') {
+            if (c == '\n') {
+                line++;
+            }
+            c = in.read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        rowLine = line;
+        rowLength = 0;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    // Unterminated quote: whatever was read so far is the last field.
+                    endField(fields, true);
+                    return fields;
+                }
+                if (c == '"') {
+                    c = in.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    line++;
+                }
+                append((char) c);
+                c = in.read();
+                continue;
+            }
+            if (c == '"' && field.isEmpty() && !wasQuoted) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',') {
+                endField(fields, wasQuoted);
+                wasQuoted = false;
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                endField(fields, wasQuoted);
+                return fields;
+            } else if (c != '\r') {
+                append((char) c);
+            }
+            c = in.read();
+        }
+    }
+
+    private void append(char c) {
+        rowLength++;
+        if (rowLength <= MAX_ROW_LENGTH) {
+            field.append(c);
+        }
+    }
+
+    private void endField(List<String> fields, boolean quoted) {
+        fields.add(field.isEmpty() && !quoted ? null : field.toString());
+        field.setLength(0);
+    }
+}
@@ -0,0 +1,49 @@
+package com.treinetic.taskmanager.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.treinetic.taskmanager.dto.TaskResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes tasks as newline-delimited JSON.
+ * <p>
+ * All rows go through a single {@link JsonGenerator}, and the generator is not flushed after
+ * every value, so rows are only pushed to the client when the buffers fill up.
+ * </p>
+ */
+class NdjsonTaskExportWriter implements TaskExportWriter {
+    private final ObjectWriter rowWriter;
+    private final Writer out;
+    private JsonGenerator generator;
+
+    NdjsonTaskExportWriter(Writer out, ObjectMapper objectMapper) {
+        this.out = out;
+        this.rowWriter = objectMapper.writerFor(TaskResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(SerializationFeature.INDENT_OUTPUT)
+                .withRootValueSeparator("\n");
+    }
+
+    @Override
+    public void write(TaskResponse task) throws IOException {
+        if (generator == null) {
+            generator = rowWriter.createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+        rowWriter.writeValue(generator, task);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (generator != null) {
+            generator.writeRaw('\n');
+            generator.flush();
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,71 @@
+package com.treinetic.taskmanager.export;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.treinetic.taskmanager.dto.TaskRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads tasks from newline-delimited JSON, one {@link TaskRequest} object per line.
+ * <p>
+ * Each line is parsed on its own, so a malformed line only fails that row. Blank lines are
+ * skipped, and unknown properties are ignored, so an NDJSON export can be imported as is.
+ * </p>
+ */
+class NdjsonTaskImportReader implements TaskImportReader {
+    private final Reader in;
+    private final ObjectReader rowReader;
+    private final StringBuilder buffer = new StringBuilder();
+    private long line;
+    private boolean eof;
+
+    NdjsonTaskImportReader(Reader in, ObjectMapper objectMapper) {
+        this.in = in;
+        this.rowReader = objectMapper.readerFor(TaskRequest.class);
+    }
+
+    @Override
+    public TaskImportRow next() throws IOException {
+        while (!eof) {
+            boolean tooLong = readLine();
+            line++;
+            if (tooLong) {
+                return TaskImportRow.invalid(line, "Row is longer than " + MAX_ROW_LENGTH + " characters");
+            }
+            String json = buffer.toString().strip();
+            if (json.isEmpty()) {
+                continue;
+            }
+            try {
+                TaskRequest task = rowReader.readValue(json);
+                return task == null ? TaskImportRow.invalid(line, "Task is required") : TaskImportRow.of(line, task);
+            } catch (JsonProcessingException ex) {
+                return TaskImportRow.invalid(line, "Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the next line into the buffer, dropping whatever exceeds {@link #MAX_ROW_LENGTH}.
+     *
+     * @return true if the line was too long and has been truncated
+     */
+    private boolean readLine() throws IOException {
+        buffer.setLength(0);
+        boolean tooLong = false;
+        int c;
+        while ((c = in.read()) != -1 && c != '\n') {
+            if (buffer.length() < MAX_ROW_LENGTH) {
+                buffer.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        eof = c == -1;
+        return tooLong;
+    }
+}
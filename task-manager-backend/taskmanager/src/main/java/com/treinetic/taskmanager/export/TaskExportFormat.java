@@ -0,0 +1,102 @@
+package com.treinetic.taskmanager.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.treinetic.taskmanager.exception.BadRequestException;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * The formats in which a user's tasks can be exported and imported.
+ * <p>
+ * Both formats put one task per line, so a client can process an export as it arrives
+ * instead of waiting for the whole document, and an import can be read one row at a time.
+ * An export can be imported again as is.
+ * </p>
+ */
+public enum TaskExportFormat {
+    /**
+     * Newline-delimited JSON: one {@code TaskResponse} object per line.
+     */
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public TaskExportWriter open(Writer out, ObjectMapper objectMapper) {
+            return new NdjsonTaskExportWriter(out, objectMapper);
+        }
+
+        @Override
+        public TaskImportReader openReader(Reader in, ObjectMapper objectMapper) {
+            return new NdjsonTaskImportReader(in, objectMapper);
+        }
+    },
+    /**
+     * Comma-separated values with a header row, quoted as described in RFC 4180.
+     */
+    CSV("text/csv", "csv") {
+        @Override
+        public TaskExportWriter open(Writer out, ObjectMapper objectMapper) {
+            return new CsvTaskExportWriter(out);
+        }
+
+        @Override
+        public TaskImportReader openReader(Reader in, ObjectMapper objectMapper) {
+            return new CsvTaskImportReader(in);
+        }
+    };
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    TaskExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Resolves a format from its name, ignoring case.
+     *
+     * @param name the name of the format, e.g. {@code ndjson} or {@code csv}
+     * @return the matching format
+     * @throws BadRequestException if there is no format with that name
+     */
+    public static TaskExportFormat from(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Unsupported export format: " + name);
+        }
+    }
+
+    /**
+     * @return the media type of the export, without a charset
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * @return the file name extension suggested to clients
+     */
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Creates a writer that writes tasks in this format.
+     *
+     * @param out          the character stream to write to; it is flushed but never closed
+     * @param objectMapper the application's JSON mapper
+     * @return a writer for this format
+     */
+    public abstract TaskExportWriter open(Writer out, ObjectMapper objectMapper);
+
+    /**
+     * Creates a reader that reads tasks in this format.
+     *
+     * @param in           the character stream to read from
+     * @param objectMapper the application's JSON mapper
+     * @return a reader for this format
+     */
+    public abstract TaskImportReader openReader(Reader in, ObjectMapper objectMapper);
+}
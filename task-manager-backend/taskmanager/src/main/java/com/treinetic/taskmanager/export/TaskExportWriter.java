@@ -0,0 +1,26 @@
+package com.treinetic.taskmanager.export;
+
+import com.treinetic.taskmanager.dto.TaskResponse;
+
+import java.io.IOException;
+
+/**
+ * Writes exported tasks one at a time, so that no more than a single row is held in memory.
+ */
+public interface TaskExportWriter {
+
+    /**
+     * Writes one task.
+     *
+     * @param task the task to write
+     * @throws IOException if the underlying stream fails, e.g. because the client went away
+     */
+    void write(TaskResponse task) throws IOException;
+
+    /**
+     * Writes anything still buffered to the underlying stream, without closing it.
+     *
+     * @throws IOException if the underlying stream fails
+     */
+    void finish() throws IOException;
+}
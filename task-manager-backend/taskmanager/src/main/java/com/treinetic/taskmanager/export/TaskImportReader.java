@@ -0,0 +1,26 @@
+package com.treinetic.taskmanager.export;
+
+import java.io.IOException;
+
+/**
+ * Reads tasks to import one row at a time, so that no more than a single row is held in memory.
+ * <p>
+ * A malformed row is returned with an error instead of failing the import, and reading resumes
+ * at the next row. Rows are capped in length; longer rows are skipped and reported as errors.
+ * </p>
+ */
+public interface TaskImportReader {
+    /**
+     * The maximum number of characters of a single row.
+     * Generous compared to the limits on {@code TaskRequest}, but it keeps memory bounded however a file is malformed.
+     */
+    int MAX_ROW_LENGTH = 64 * 1024;
+
+    /**
+     * Reads the next row.
+     *
+     * @return the next row, or {@code null} at the end of the input
+     * @throws IOException if reading the underlying stream fails
+     */
+    TaskImportRow next() throws IOException;
+}
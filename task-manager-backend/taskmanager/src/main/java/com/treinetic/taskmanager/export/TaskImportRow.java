@@ -0,0 +1,21 @@
+package com.treinetic.taskmanager.export;
+
+import com.treinetic.taskmanager.dto.TaskRequest;
+
+/**
+ * One row read from an import file: either the parsed task or the reason it could not be parsed.
+ *
+ * @param line  the line number in the file the row starts on, starting at 1
+ * @param task  the parsed task, or {@code null} if the row is malformed
+ * @param error why the row could not be parsed, or {@code null} if it was
+ */
+public record TaskImportRow(long line, TaskRequest task, String error) {
+
+    static TaskImportRow of(long line, TaskRequest task) {
+        return new TaskImportRow(line, task, null);
+    }
+
+    static TaskImportRow invalid(long line, String error) {
+        return new TaskImportRow(line, null, error);
+    }
+}
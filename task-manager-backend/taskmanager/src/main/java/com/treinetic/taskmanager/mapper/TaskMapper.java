@@ -0,0 +1,57 @@
+package com.treinetic.taskmanager.mapper;
+
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.model.Task;
+import com.treinetic.taskmanager.model.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps between {@link Task} entities and their request/response DTOs.
+ * <p>
+ * Mapping is written out field by field: there is no reflection or runtime type-map
+ * lookup, and each call allocates only the target object. The owning user is always
+ * passed in by the caller, so the lazy {@code Task.user} association is never
+ * initialised just to read the username.
+ * </p>
+ */
+@Component
+public class TaskMapper {
+
+    /**
+     * Creates a new, unsaved task from the client's request.
+     *
+     * @param request the task data from the client
+     * @param owner   the user (or a reference to the user) that will own the task
+     * @return the new {@link Task} entity
+     */
+    public Task toEntity(TaskRequest request, User owner) {
+        Task task = new Task();
+        task.setTitle(request.getTitle());
+        task.setDescription(request.getDescription());
+        task.setStatus(request.getStatus());
+        task.setUser(owner);
+        return task;
+    }
+
+    /**
+     * Converts a task to its response DTO.
+     *
+     * @param task  the task entity
+     * @param owner the user owning the task
+     * @return the corresponding {@link TaskResponse}
+     */
+    public TaskResponse toResponse(Task task, User owner) {
+        return new TaskResponse(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getStatus(),
+                task.getCreatedAt(),
+                task.getUpdatedAt(),
+                task.getVersion(),
+                owner.getId(),
+                owner.getUsername()
+        );
+    }
+}
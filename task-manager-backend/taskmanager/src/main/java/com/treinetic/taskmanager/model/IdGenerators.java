@@ -0,0 +1,20 @@
+package com.treinetic.taskmanager.model;
+
+/**
+ * Shared settings of the table-based ID generators used by the entities.
+ * <p>
+ * Each entity has one row in the {@code id_generator} table holding the next free ID.
+ * Hibernate reserves {@link #ALLOCATION_SIZE} IDs at a time with the pooled optimizer,
+ * so inserting a batch of new rows costs one generator round-trip per block instead of
+ * one per row, and the inserts themselves can be batched by the JDBC driver.
+ * </p>
+ */
+public final class IdGenerators {
+    public static final String TABLE = "id_generator";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
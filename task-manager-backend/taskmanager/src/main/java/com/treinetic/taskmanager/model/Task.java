@@ -3,19 +3,37 @@ package com.treinetic.taskmanager.model;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+        @Index(name = "idx_task_user_created_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_task_user_status_created", columnList = "user_id, status, created_at"),
+        @Index(name = "idx_task_user_title", columnList = "user_id, title"),
+        @Index(name = "idx_task_user_change", columnList = "user_id, change_version, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Task {
 
+    /**
+     * Allocated in blocks of {@value IdGenerators#ALLOCATION_SIZE} from the {@code id_generator} table
+     * rather than by an identity column, so that inserts can be sent to the database in JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id")
+    @TableGenerator(
+            name = "task_id",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "task",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private Long id;
 
     @Column(nullable = false)
@@ -23,13 +41,32 @@ public class Task {
 
     private String description;
 
+    @Enumerated(EnumType.STRING)
     @Column(nullable = false)
-    private String status; // TO_DO, IN_PROGRESS, DONE
+    private TaskStatus status;
 
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /**
+     * Incremented on every change to the task; used as the task's entity tag.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * The owner's watermark version at the time of the task's last change, used to find the tasks
+     * changed since a sync cursor. Tasks written before it was introduced have {@code 0}.
+     */
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
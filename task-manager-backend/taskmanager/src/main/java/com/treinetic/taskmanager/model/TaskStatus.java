@@ -0,0 +1,13 @@
+package com.treinetic.taskmanager.model;
+
+/**
+ * Lifecycle states a {@link Task} can be in.
+ * <p>
+ * Stored by name, so the values must not be renamed once persisted.
+ * </p>
+ */
+public enum TaskStatus {
+    TO_DO,
+    IN_PROGRESS,
+    DONE
+}
@@ -0,0 +1,51 @@
+package com.treinetic.taskmanager.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Number of tasks a user has in each {@link TaskStatus}.
+ * <p>
+ * The counts are adjusted in the same transaction as every create, status change or delete of
+ * the user's tasks, so the summary never has to be computed from the {@code task} table on a
+ * request. {@code version} is the user's {@link TaskWatermark} version of the last adjustment.
+ * </p>
+ */
+@Entity
+@Table(name = "task_summary")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSummary {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "to_do", nullable = false)
+    private long toDo;
+
+    @Column(name = "in_progress", nullable = false)
+    private long inProgress;
+
+    @Column(nullable = false)
+    private long done;
+
+    @Column(nullable = false)
+    private long version;
+
+    /**
+     * Returns the number of tasks in the given status.
+     *
+     * @param status the status
+     * @return the number of the user's tasks in that status
+     */
+    public long count(TaskStatus status) {
+        return switch (status) {
+            case TO_DO -> toDo;
+            case IN_PROGRESS -> inProgress;
+            case DONE -> done;
+        };
+    }
+}
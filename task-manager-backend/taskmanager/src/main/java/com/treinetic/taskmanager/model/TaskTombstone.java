@@ -0,0 +1,57 @@
+package com.treinetic.taskmanager.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a deleted task, kept so that syncing clients learn about the deletion.
+ * <p>
+ * Only the task's ID, owner and the watermark version of the deletion are kept. Tombstones
+ * older than {@code app.tasks.changes.tombstone-retention} are removed in the background,
+ * after which the owner's {@link TaskWatermark#getPurgedVersion()} records that deletions up
+ * to that version can no longer be reported.
+ * </p>
+ */
+@Entity
+@Table(name = "task_tombstone", indexes = {
+        @Index(name = "idx_tombstone_user_change", columnList = "user_id, change_version"),
+        @Index(name = "idx_tombstone_deleted_at", columnList = "deleted_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskTombstone implements Persistable<Long> {
+
+    /**
+     * The ID of the deleted task; task IDs are never reused.
+     */
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Override
+    public Long getId() {
+        return taskId;
+    }
+
+    /**
+     * Tombstones are only ever inserted, so saving one never needs to check whether it exists.
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
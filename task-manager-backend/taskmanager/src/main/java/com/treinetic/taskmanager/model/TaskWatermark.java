@@ -0,0 +1,46 @@
+package com.treinetic.taskmanager.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change marker for one user's task collection.
+ * <p>
+ * The version is incremented, and the modification time updated, in the same transaction
+ * as every create, update or delete of the user's tasks. Checking whether a user's task
+ * list has changed is therefore a single primary-key lookup on this table.
+ * </p>
+ *
+ * <p>
+ * The version is also the user's sync cursor: every changed task and {@link TaskTombstone} is
+ * stamped with the version its change was made at. Since the row is locked by the update until
+ * the transaction commits, changes to the same user's tasks commit in version order.
+ * </p>
+ */
+@Entity
+@Table(name = "task_watermark")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskWatermark {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(name = "last_modified", nullable = false)
+    private LocalDateTime lastModified;
+
+    /**
+     * Highest version whose tombstones have been compacted away; sync cursors below it may
+     * have missed deletions.
+     */
+    @Column(name = "purged_version", nullable = false)
+    private long purgedVersion;
+}
@@ -6,6 +6,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
@@ -17,8 +18,20 @@ import java.util.List;
 @Builder
 public class User implements UserDetails {
 
+    /**
+     * Allocated in blocks of {@value IdGenerators#ALLOCATION_SIZE} from the {@code id_generator} table
+     * rather than by an identity column, so that inserts can be sent to the database in JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(
+            name = "user_id",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "user",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -27,6 +40,13 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private String password;
 
+    /**
+     * When the user was revoked, or {@code null} for an active user.
+     * Revoked users can no longer log in and their outstanding tokens are rejected.
+     */
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("USER"));
@@ -49,6 +69,6 @@ public class User implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return revokedAt == null;
     }
 }
\ No newline at end of file
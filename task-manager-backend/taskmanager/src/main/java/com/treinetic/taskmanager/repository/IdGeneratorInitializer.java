@@ -0,0 +1,62 @@
+package com.treinetic.taskmanager.repository;
+
+import com.treinetic.taskmanager.model.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves the table-based ID generators past the IDs already in use.
+ * <p>
+ * Databases created before the entities switched from identity columns to
+ * {@link IdGenerators table generators} already hold rows whose IDs the fresh
+ * {@code id_generator} table knows nothing about. On startup, once Hibernate has updated
+ * the schema, each generator is advanced beyond the highest existing ID. Generators that
+ * are already ahead are left alone, so this is a no-op on every start after the first.
+ * </p>
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdGeneratorInitializer {
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    void alignWithExistingRows() {
+        align("task", "task");
+        align("user", "user");
+    }
+
+    private void align(String generator, String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        if (maxId == null) {
+            return;
+        }
+        // The pooled optimizer may hand out the block just below the stored value, so stay a full block clear.
+        long nextValue = maxId + IdGenerators.ALLOCATION_SIZE;
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT " + IdGenerators.VALUE_COLUMN + " FROM " + IdGenerators.TABLE
+                        + " WHERE " + IdGenerators.NAME_COLUMN + " = ?",
+                Long.class, generator);
+        if (current.isEmpty()) {
+            jdbcTemplate.update(
+                    "INSERT INTO " + IdGenerators.TABLE
+                            + " (" + IdGenerators.NAME_COLUMN + ", " + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)",
+                    generator, nextValue);
+        } else if (current.get(0) < nextValue) {
+            jdbcTemplate.update(
+                    "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ?"
+                            + " WHERE " + IdGenerators.NAME_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?",
+                    nextValue, generator, nextValue);
+        } else {
+            return;
+        }
+        log.info("Advanced {} ID generator to {} past existing IDs", generator, nextValue);
+    }
+}
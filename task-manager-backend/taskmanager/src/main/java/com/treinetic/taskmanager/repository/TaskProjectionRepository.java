@@ -0,0 +1,44 @@
+package com.treinetic.taskmanager.repository;
+
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.model.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Read queries that build {@link TaskResponse}s directly in the {@code SELECT} clause.
+ * <p>
+ * Mixed into {@link TaskRepository}, so that listings filtered with {@link TaskSpecifications}
+ * read only the columns they return and never load {@link Task} entities or their lazy
+ * {@code user} association.
+ * </p>
+ */
+public interface TaskProjectionRepository {
+
+    /**
+     * Returns the tasks matching the specification as response DTOs.
+     *
+     * @param spec  the filters to apply
+     * @param sort  the order of the results
+     * @param limit the maximum number of results
+     * @return the matching tasks, in the requested order
+     */
+    List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit);
+
+    /**
+     * Streams all of the user's tasks as response DTOs, oldest first.
+     * <p>
+     * Rows are read from a forward-only cursor, {@code fetchSize} at a time, instead of
+     * being collected into a list, so the caller can write out any number of tasks with
+     * flat memory. The stream must be consumed and closed inside a transaction.
+     * </p>
+     *
+     * @param userId    the ID of the user owning the tasks
+     * @param fetchSize the number of rows the driver fetches per round trip
+     * @return the user's tasks, ordered by creation time and ID
+     */
+    Stream<TaskResponse> streamResponsesByUserId(Long userId, int fetchSize);
+}
@@ -0,0 +1,74 @@
+package com.treinetic.taskmanager.repository;
+
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.model.Task;
+import com.treinetic.taskmanager.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria API implementation of {@link TaskProjectionRepository}.
+ * <p>
+ * The query selects a constructor expression over the task columns and the owner's ID and
+ * username, joined in the same statement, so each row maps straight to a {@link TaskResponse}.
+ * </p>
+ */
+class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+    private static final String STREAM_BY_USER_QUERY = """
+            SELECT new com.treinetic.taskmanager.dto.TaskResponse(
+                t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.version, u.id, u.username)
+            FROM Task t JOIN t.user u
+            WHERE u.id = :userId
+            ORDER BY t.createdAt ASC, t.id ASC
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskResponse> findResponses(Specification<Task> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> user = task.join("user");
+
+        query.select(cb.construct(
+                TaskResponse.class,
+                task.get("id"),
+                task.get("title"),
+                task.get("description"),
+                task.get("status"),
+                task.get("createdAt"),
+                task.get("updatedAt"),
+                task.get("version"),
+                user.get("id"),
+                user.get("username")
+        ));
+        query.where(spec.toPredicate(task, query, cb));
+        query.orderBy(QueryUtils.toOrders(sort, task, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<TaskResponse> streamResponsesByUserId(Long userId, int fetchSize) {
+        return entityManager.createQuery(STREAM_BY_USER_QUERY, TaskResponse.class)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
@@ -1,12 +1,120 @@
 package com.treinetic.taskmanager.repository;
 
+import com.treinetic.taskmanager.dto.ChangedTask;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.dto.TaskStatusCount;
 import com.treinetic.taskmanager.model.Task;
+import com.treinetic.taskmanager.model.TaskStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskProjectionRepository {
     List<Task> findByUserId(Long userId);
-}
\ No newline at end of file
+
+    /**
+     * Returns the task as a response DTO only if it is owned by the given user, checking ownership in the same statement.
+     */
+    @Query("SELECT new com.treinetic.taskmanager.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.version, u.id, u.username) " +
+            "FROM Task t JOIN t.user u WHERE t.id = :id AND u.id = :userId")
+    Optional<TaskResponse> findResponseByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Returns those of the given tasks that are owned by the given user as response DTOs, in no particular order.
+     */
+    @Query("SELECT new com.treinetic.taskmanager.dto.TaskResponse(" +
+            "t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.version, u.id, u.username) " +
+            "FROM Task t JOIN t.user u WHERE u.id = :userId AND t.id IN :ids")
+    List<TaskResponse> findResponsesByUserIdAndIdIn(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns the user's tasks last changed at a watermark version in {@code (since, upTo]}, in version order.
+     */
+    @Query("SELECT new com.treinetic.taskmanager.dto.ChangedTask(t.changeVersion, " +
+            "t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.version, u.id, u.username) " +
+            "FROM Task t JOIN t.user u WHERE u.id = :userId AND t.changeVersion > :since AND t.changeVersion <= :upTo " +
+            "ORDER BY t.changeVersion ASC, t.id ASC")
+    List<ChangedTask> findChanges(@Param("userId") Long userId, @Param("since") long since, @Param("upTo") long upTo,
+                                  Limit limit);
+
+    /**
+     * Returns the status of the task only if it is owned by the given user.
+     */
+    @Query("SELECT t.status FROM Task t WHERE t.id = :id AND t.user.id = :userId")
+    Optional<TaskStatus> findStatusByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Counts the given users' tasks per status; statuses a user has no tasks in are left out.
+     */
+    @Query("SELECT new com.treinetic.taskmanager.dto.TaskStatusCount(t.user.id, t.status, COUNT(t)) " +
+            "FROM Task t WHERE t.user.id IN :userIds GROUP BY t.user.id, t.status")
+    List<TaskStatusCount> countByStatusForUsers(@Param("userIds") Collection<Long> userIds);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Returns those of the given tasks that are owned by the given user.
+     */
+    List<Task> findByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    /**
+     * Returns which of the given task IDs exist, regardless of their owner.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Updates the editable fields of a task owned by the given user in a single statement,
+     * bumping its version and update time as Hibernate would for a managed entity, and
+     * stamping it with the watermark version of the change.
+     * <p>
+     * Unless {@code anyVersion} is set, the row is only updated if it still has one of the
+     * {@code expectedVersions}, which makes the statement a compare-and-set that needs no row lock held across requests.
+     * </p>
+     *
+     * @return the number of updated rows; {@code 0} if the task does not exist, belongs to someone else
+     * or no longer has an expected version
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.title = :title, t.description = :description, t.status = :status, " +
+            "t.updatedAt = :updatedAt, t.version = t.version + 1, t.changeVersion = :changeVersion " +
+            "WHERE t.id = :id AND t.user.id = :userId " +
+            "AND (:anyVersion = true OR t.version IN :expectedVersions)")
+    int updateByIdAndUserId(
+            @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("anyVersion") boolean anyVersion,
+            @Param("expectedVersions") Collection<Long> expectedVersions,
+            @Param("title") String title,
+            @Param("description") String description,
+            @Param("status") TaskStatus status,
+            @Param("updatedAt") LocalDateTime updatedAt,
+            @Param("changeVersion") long changeVersion
+    );
+
+    /**
+     * Deletes a task owned by the given user in a single statement.
+     *
+     * @return the number of deleted rows; {@code 0} if the task does not exist or belongs to someone else
+     */
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id = :id AND t.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    /**
+     * Returns the next batch of tasks in ID order, used to walk the whole table without loading it at once.
+     */
+    List<Task> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+}
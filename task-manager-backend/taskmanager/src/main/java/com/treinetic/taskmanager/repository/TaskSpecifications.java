@@ -0,0 +1,88 @@
+package com.treinetic.taskmanager.repository;
+
+import com.treinetic.taskmanager.dto.TaskCursor;
+import com.treinetic.taskmanager.model.Task;
+import com.treinetic.taskmanager.model.TaskStatus;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reusable {@link Specification} building blocks for querying {@link Task}s.
+ * <p>
+ * Each method returns a single predicate so that callers can compose only the
+ * filters that were actually requested. Together with the composite indexes on
+ * the {@code task} table this lets the database return just the matching rows.
+ * </p>
+ */
+public final class TaskSpecifications {
+    private static final char LIKE_ESCAPE = '\\';
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Restricts the query to tasks owned by the given user.
+     */
+    public static Specification<Task> ownedBy(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    /**
+     * Restricts the query to tasks in the given status.
+     */
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Restricts the query to tasks created at or after the given time.
+     */
+    public static Specification<Task> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    /**
+     * Restricts the query to tasks created strictly before the given time.
+     */
+    public static Specification<Task> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+
+    /**
+     * Restricts the query to tasks whose title starts with the given text.
+     * <p>
+     * A prefix match ({@code LIKE 'text%'}) can use the {@code (user_id, title)} index,
+     * unlike a contains match. Wildcard characters in the text are matched literally.
+     * </p>
+     */
+    public static Specification<Task> titleStartsWith(String prefix) {
+        String pattern = prefix
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(root.get("title"), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Restricts the query to tasks that come after the cursor position when ordered
+     * by {@code (createdAt, id)} in the given direction.
+     */
+    public static Specification<Task> after(TaskCursor cursor, Sort.Direction direction) {
+        return (root, query, cb) -> {
+            var createdAt = root.<LocalDateTime>get("createdAt");
+            var id = root.<Long>get("id");
+            if (direction.isAscending()) {
+                return cb.or(
+                        cb.greaterThan(createdAt, cursor.createdAt()),
+                        cb.and(cb.equal(createdAt, cursor.createdAt()), cb.greaterThan(id, cursor.id()))
+                );
+            }
+            return cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))
+            );
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.treinetic.taskmanager.repository;
+
+import com.treinetic.taskmanager.model.TaskSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskSummaryRepository extends JpaRepository<TaskSummary, Long> {
+
+    /**
+     * Adds per-status deltas to the user's summary in a single statement, locking it until the transaction ends.
+     *
+     * @return the number of summaries changed; {@code 0} if the user has none stored yet
+     */
+    @Modifying
+    @Query(value = "UPDATE task_summary SET to_do = to_do + :toDo, in_progress = in_progress + :inProgress, " +
+            "done = done + :done, version = :version WHERE user_id = :userId", nativeQuery = true)
+    int add(@Param("userId") Long userId, @Param("toDo") long toDo, @Param("inProgress") long inProgress,
+            @Param("done") long done, @Param("version") long version);
+
+    /**
+     * Stores the user's full counts, creating the summary or overwriting it, in a single statement.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_summary (user_id, to_do, in_progress, done, version) " +
+            "VALUES (:userId, :toDo, :inProgress, :done, :version) " +
+            "ON DUPLICATE KEY UPDATE to_do = :toDo, in_progress = :inProgress, done = :done, version = :version",
+            nativeQuery = true)
+    void store(@Param("userId") Long userId, @Param("toDo") long toDo, @Param("inProgress") long inProgress,
+               @Param("done") long done, @Param("version") long version);
+
+    /**
+     * Creates an empty summary for the user unless one exists, locking it until the transaction ends either way.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_summary (user_id, to_do, in_progress, done, version) VALUES (:userId, 0, 0, 0, 0) " +
+            "ON DUPLICATE KEY UPDATE user_id = user_id", nativeQuery = true)
+    void insertIfAbsent(@Param("userId") Long userId);
+
+    /**
+     * Returns the version of the user's stored summary, if one has been stored.
+     */
+    @Query("SELECT s.version FROM TaskSummary s WHERE s.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * Loads the user's summary and locks it until the transaction ends, holding back writes to the user's tasks.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TaskSummary s WHERE s.userId = :userId")
+    Optional<TaskSummary> findForUpdate(@Param("userId") Long userId);
+}
@@ -0,0 +1,28 @@
+package com.treinetic.taskmanager.repository;
+
+import com.treinetic.taskmanager.model.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Returns the user's tombstones recorded at a watermark version in {@code (since, upTo]}, in version order.
+     */
+    @Query("SELECT t FROM TaskTombstone t WHERE t.userId = :userId AND t.changeVersion > :since AND t.changeVersion <= :upTo " +
+            "ORDER BY t.changeVersion ASC, t.taskId ASC")
+    List<TaskTombstone> findChanges(@Param("userId") Long userId, @Param("since") long since, @Param("upTo") long upTo,
+                                    Limit limit);
+
+    /**
+     * Returns the next batch of tombstones recorded before the given time, used by compaction.
+     */
+    List<TaskTombstone> findByDeletedAtBefore(LocalDateTime cutoff, Limit limit);
+}
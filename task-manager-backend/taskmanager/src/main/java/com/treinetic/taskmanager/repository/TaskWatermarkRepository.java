@@ -0,0 +1,35 @@
+package com.treinetic.taskmanager.repository;
+
+import com.treinetic.taskmanager.model.TaskWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TaskWatermarkRepository extends JpaRepository<TaskWatermark, Long> {
+
+    /**
+     * Advances the user's watermark, creating it on the first change, in a single statement.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_watermark (user_id, version, last_modified, purged_version) VALUES (:userId, 1, :now, 0) " +
+            "ON DUPLICATE KEY UPDATE version = version + 1, last_modified = :now", nativeQuery = true)
+    void advance(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Returns the user's current version; within a transaction that has advanced it, the version of its changes.
+     */
+    @Query("SELECT w.version FROM TaskWatermark w WHERE w.userId = :userId")
+    long findVersionByUserId(@Param("userId") Long userId);
+
+    /**
+     * Records that the user's tombstones up to the given version have been compacted, unless a higher version already was.
+     */
+    @Modifying
+    @Query("UPDATE TaskWatermark w SET w.purgedVersion = :version WHERE w.userId = :userId AND w.purgedVersion < :version")
+    int raisePurgedVersion(@Param("userId") Long userId, @Param("version") long version);
+}
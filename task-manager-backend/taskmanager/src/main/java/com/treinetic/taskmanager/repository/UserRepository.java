@@ -1,12 +1,26 @@
 package com.treinetic.taskmanager.repository;
 
 import com.treinetic.taskmanager.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    @Query("SELECT u.id FROM User u WHERE u.revokedAt >= :since")
+    List<Long> findIdsRevokedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Returns the next batch of user IDs in ascending order, used to walk all users without loading them.
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :after ORDER BY u.id ASC")
+    List<Long> findIdsAfter(@Param("after") Long after, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,277 @@
+package com.treinetic.taskmanager.search;
+
+import com.treinetic.taskmanager.event.TaskChangedEvent;
+import com.treinetic.taskmanager.model.Task;
+import com.treinetic.taskmanager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over task titles and descriptions.
+ * <p>
+ * The index is partitioned by user: every user has their own postings, so a search
+ * only ever touches the querying user's terms, no matter how many tasks exist overall.
+ * Matches are ranked with BM25, and title terms count twice as much as description terms.
+ * </p>
+ *
+ * <p>
+ * The index is kept up to date incrementally from {@link TaskChangedEvent}s once the
+ * change is committed, and is rebuilt from the {@link TaskRepository} when the
+ * application starts. It only returns task IDs; callers load the tasks themselves,
+ * so a stale entry can never leak data that no longer exists.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndex {
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final TaskRepository taskRepository;
+    private final Map<Long, Partition> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * IDs of the tasks deleted while a rebuild runs, which it must not index from rows read earlier.
+     */
+    private final Set<Long> deletedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    @Value("${app.search.rebuild-on-startup}")
+    private boolean rebuildOnStartup;
+
+    @Value("${app.search.rebuild-batch-size}")
+    private int rebuildBatchSize;
+
+    /**
+     * Returns the IDs of the user's tasks that best match the query, best match first.
+     *
+     * @param userId the ID of the user whose tasks are searched
+     * @param query  the free-text query
+     * @param limit  the maximum number of IDs to return
+     * @return the matching task IDs ordered by descending relevance
+     */
+    public List<Long> search(Long userId, String query, int limit) {
+        Partition partition = partitions.get(userId);
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (partition == null || terms.isEmpty()) {
+            return List.of();
+        }
+        return partition.search(terms, limit);
+    }
+
+    /**
+     * Adds, replaces or removes the task affected by a committed change.
+     *
+     * @param event the change published by the task service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.type() == TaskChangedEvent.Type.DELETED) {
+            remove(event.userId(), event.taskId());
+        } else {
+            index(event.userId(), event.taskId(), event.task().getTitle(), event.task().getDescription(), true);
+        }
+    }
+
+    /**
+     * Removes a task from the index.
+     *
+     * @param userId the ID of the user owning the task
+     * @param taskId the ID of the task
+     */
+    public void remove(Long userId, Long taskId) {
+        if (rebuilding) {
+            deletedDuringRebuild.add(taskId);
+        }
+        Partition partition = partitions.get(userId);
+        if (partition != null) {
+            partition.remove(taskId);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the repository once the application has started.
+     * <p>
+     * Tasks are read in ID order, one batch at a time, so the rebuild never holds the whole
+     * table in memory. Entries written by live changes in the meantime are newer than the
+     * rows read here and are left untouched.
+     * </p>
+     *
+     * <p>
+     * A task deleted after its row was read would otherwise be indexed again by the rebuild, and
+     * its deletion would never come back to remove it. Deletions are therefore recorded while the
+     * rebuild runs, and the partition skips recorded tasks under the same lock the deletion takes.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        long started = System.nanoTime();
+        long indexed = 0;
+        long lastId = 0;
+        List<Task> batch;
+        // Set before the first read, so that any deletion the rebuild may have read past is recorded.
+        rebuilding = true;
+        try {
+            do {
+                batch = taskRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(rebuildBatchSize));
+                for (Task task : batch) {
+                    index(task.getUser().getId(), task.getId(), task.getTitle(), task.getDescription(), false);
+                    lastId = task.getId();
+                }
+                indexed += batch.size();
+            } while (batch.size() == rebuildBatchSize);
+        } finally {
+            rebuilding = false;
+            deletedDuringRebuild.clear();
+        }
+        log.info("Rebuilt task search index with {} tasks for {} users in {} ms",
+                indexed, partitions.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void index(Long userId, Long taskId, String title, String description, boolean replace) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : tokenize(title)) {
+            frequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : tokenize(description)) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        partitions.computeIfAbsent(userId, id -> new Partition()).put(taskId, frequencies, replace);
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * The postings of a single user, guarded by a read-write lock so searches run in parallel.
+     */
+    private final class Partition {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+        private final Map<Long, Integer> lengths = new HashMap<>();
+        private long totalLength;
+
+        void put(Long taskId, Map<String, Integer> frequencies, boolean replace) {
+            lock.writeLock().lock();
+            try {
+                if (!replace && deletedDuringRebuild.contains(taskId)) {
+                    return;
+                }
+                if (documents.containsKey(taskId)) {
+                    if (!replace) {
+                        return;
+                    }
+                    removeLocked(taskId);
+                }
+                int length = 0;
+                for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                    postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(taskId, entry.getValue());
+                    length += entry.getValue();
+                }
+                documents.put(taskId, frequencies);
+                lengths.put(taskId, length);
+                totalLength += length;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        void remove(Long taskId) {
+            lock.writeLock().lock();
+            try {
+                removeLocked(taskId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void removeLocked(Long taskId) {
+            Map<String, Integer> frequencies = documents.remove(taskId);
+            if (frequencies == null) {
+                return;
+            }
+            for (String term : frequencies.keySet()) {
+                Map<Long, Integer> docs = postings.get(term);
+                docs.remove(taskId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            totalLength -= lengths.remove(taskId);
+        }
+
+        List<Long> search(Set<String> terms, int limit) {
+            lock.readLock().lock();
+            try {
+                int documentCount = documents.size();
+                if (documentCount == 0) {
+                    return List.of();
+                }
+                double averageLength = (double) totalLength / documentCount;
+                Map<Long, Double> scores = new HashMap<>();
+                for (String term : terms) {
+                    Map<Long, Integer> docs = postings.get(term);
+                    if (docs == null) {
+                        continue;
+                    }
+                    double idf = Math.log(1 + (documentCount - docs.size() + 0.5) / (docs.size() + 0.5));
+                    for (Map.Entry<Long, Integer> posting : docs.entrySet()) {
+                        int frequency = posting.getValue();
+                        double norm = K1 * (1 - B + B * lengths.get(posting.getKey()) / averageLength);
+                        scores.merge(posting.getKey(), idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                    }
+                }
+                return topMatches(scores, limit);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private static List<Long> topMatches(Map<Long, Double> scores, int limit) {
+            Comparator<Map.Entry<Long, Double>> byRelevance = Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey());
+            // Keep only the best {@code limit} entries in a min-heap instead of sorting every match.
+            PriorityQueue<Map.Entry<Long, Double>> best = new PriorityQueue<>(limit + 1, byRelevance);
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                best.offer(entry);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+            List<Long> ids = new ArrayList<>(best.size());
+            while (!best.isEmpty()) {
+                ids.add(best.poll().getKey());
+            }
+            Collections.reverse(ids);
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.treinetic.taskmanager.security;
+
+import com.treinetic.taskmanager.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt {@link PasswordEncoder} that hashes and verifies passwords on a dedicated, bounded executor.
+ * <p>
+ * BCrypt is deliberately CPU-heavy. Running it on the request threads lets a burst of logins or
+ * registrations occupy every web worker and starve the task API. Here at most {@code threads}
+ * passwords are hashed at once (one per core by default), at most {@code queueCapacity} more wait,
+ * and anything beyond that is rejected immediately with a {@link ServiceUnavailableException}
+ * rather than queueing behind work that cannot finish in time.
+ * </p>
+ *
+ * <p>
+ * The work factor ({@code strength}) is configurable. {@link #upgradeEncoding(String)} reports
+ * every hash made with a different work factor, so that Spring Security re-hashes the password
+ * with the current one on the user's next successful login, whether the cost was raised or lowered.
+ * </p>
+ *
+ * <p>
+ * Hashing time is recorded as {@code taskmanager.password.hash} (tagged {@code encode} or
+ * {@code matches}), time spent queued for a thread as {@code taskmanager.password.wait}, and
+ * rejected requests as {@code taskmanager.password.rejected}.
+ * </p>
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    /**
+     * @param strength      the BCrypt work factor (log2 of the number of rounds), between 4 and 31
+     * @param threads       the number of passwords hashed at once; {@code 0} for one per available core
+     * @param queueCapacity the number of hashing requests allowed to wait for a thread; {@code 0} for none
+     * @param meterRegistry the registry the hashing metrics are published to
+     */
+    public BoundedPasswordEncoder(int strength, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>(),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.encodeTimer = hashTimer("encode", meterRegistry);
+        this.matchesTimer = hashTimer("matches", meterRegistry);
+        this.waitTimer = Timer.builder("taskmanager.password.wait")
+                .description("Time a password waited for a hashing thread")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("taskmanager.password.rejected")
+                .description("Passwords not hashed because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("taskmanager.password.queue", executor, pool -> pool.getQueue().size())
+                .description("Passwords waiting for a hashing thread")
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("taskmanager.password.hash")
+                .description("Time to hash or verify a password with BCrypt")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    /**
+     * Stops the hashing threads once the application shuts down.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Timer timer, Callable<T> work) {
+        long submitted = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(work);
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Too many logins in progress, please retry");
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while hashing the password");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
@@ -1,19 +1,32 @@
 package com.treinetic.taskmanager.security;
 
+import com.treinetic.taskmanager.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -21,6 +34,20 @@ import java.io.IOException;
  * <p>
  * This filter intercepts incoming HTTP requests, extracts the JWT token from the Authorization header,
  * validates the token, and sets the authentication context for valid tokens.
+ * Each token is verified once per request; requests with an invalid or expired token
+ * simply continue unauthenticated.
+ * </p>
+ *
+ * <p>
+ * By default the user is loaded from the database on every request. When
+ * {@code app.jwt.stateless-auth} is enabled, the principal is built straight from the user ID
+ * and authorities embedded in the verified token instead, and revoked users are rejected
+ * through the in-memory {@link RevokedUserDenyList}.
+ * </p>
+ *
+ * <p>
+ * The time the filter itself adds to a request, excluding the rest of the chain, is recorded as
+ * {@code taskmanager.auth.filter}, tagged with how the token was handled.
  * </p>
  *
  * <p>
@@ -32,6 +59,27 @@ import java.io.IOException;
 public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsServiceImpl userDetailsService;
+    private final RevokedUserDenyList revokedUserDenyList;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Whether requests are authenticated from the token claims alone, without a user lookup.
+     * Loaded from application properties: {@code app.jwt.stateless-auth}.
+     */
+    @Value("${app.jwt.stateless-auth}")
+    private boolean statelessAuth;
+
+    private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+    @PostConstruct
+    void init() {
+        for (Outcome outcome : Outcome.values()) {
+            timers.put(outcome, Timer.builder("taskmanager.auth.filter")
+                    .description("Time spent authenticating a request from its bearer token")
+                    .tag("outcome", outcome.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
 
     @Override
     protected void doFilterInternal(
@@ -39,32 +87,94 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
+        long started = System.nanoTime();
+        Outcome outcome = authenticate(request);
+        timers.get(outcome).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Authenticates the request from its bearer token, if it has a valid one.
+     *
+     * @param request the current request
+     * @return how the token was handled, for the filter's metrics
+     */
+    private Outcome authenticate(HttpServletRequest request) {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
+        final Claims claims;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
+            return Outcome.NONE;
         }
 
         jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
+        try {
+            // Verifies the signature and expiration once; everything below reads the same claims.
+            claims = jwtService.parseToken(jwt);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Outcome.INVALID;
+        }
+        final String username = claims.getSubject();
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
-                );
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        if (username == null || SecurityContextHolder.getContext().getAuthentication() != null) {
+            return Outcome.SKIPPED;
+        }
+        UserDetails userDetails = resolveUser(claims);
+        if (userDetails == null || !userDetails.isEnabled() || !jwtService.isTokenValid(claims, userDetails)) {
+            return Outcome.REJECTED;
+        }
+        Collection<? extends GrantedAuthority> authorities = statelessAuth
+                ? jwtService.extractAuthorities(claims)
+                : userDetails.getAuthorities();
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                authorities
+        );
+        authToken.setDetails(
+                new WebAuthenticationDetailsSource().buildDetails(request)
+        );
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+        return Outcome.AUTHENTICATED;
+    }
+
+    /**
+     * Resolves the user the token was issued to.
+     *
+     * @param claims the verified token claims
+     * @return the user, or {@code null} if the user no longer exists or has been revoked
+     */
+    private UserDetails resolveUser(Claims claims) {
+        Long userId = jwtService.extractUserId(claims);
+        if (statelessAuth && userId != null) {
+            if (revokedUserDenyList.isRevoked(userId)) {
+                return null;
             }
+            return User.builder()
+                    .id(userId)
+                    .username(claims.getSubject())
+                    .build();
         }
-        filterChain.doFilter(request, response);
+        try {
+            return this.userDetailsService.loadUserByUsername(claims.getSubject());
+        } catch (UsernameNotFoundException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * How a request's token was handled; the tag values of {@code taskmanager.auth.filter}.
+     */
+    private enum Outcome {
+        /** No bearer token was sent. */
+        NONE,
+        /** The token is malformed, forged or expired. */
+        INVALID,
+        /** The request was already authenticated, or the token has no subject. */
+        SKIPPED,
+        /** The token is valid but its user no longer exists, is disabled or revoked. */
+        REJECTED,
+        AUTHENTICATED
     }
-}
\ No newline at end of file
+}
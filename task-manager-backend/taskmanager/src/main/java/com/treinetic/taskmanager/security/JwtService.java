@@ -1,18 +1,39 @@
 package com.treinetic.taskmanager.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.treinetic.taskmanager.model.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -21,9 +42,24 @@ import java.util.function.Function;
  * This class uses the io.jsonwebtoken (jjwt) library to perform operations on JWTs,
  * such as creating signed tokens and extracting claims like username and expiration.
  * </p>
+ *
+ * <p>
+ * The signing key and the parser are built once at startup. Verified claims are kept
+ * in a bounded cache keyed by a SHA-256 hash of the token, and never outlive the token
+ * itself, so a token sent with many requests has its signature verified only once.
+ * </p>
+ *
+ * <p>
+ * Signature verification and signing are timed as {@code taskmanager.jwt.parse} and
+ * {@code taskmanager.jwt.sign}; the claims cache is published as the {@code jwtClaims} cache.
+ * </p>
  */
 @Service
+@RequiredArgsConstructor
 public class JwtService {
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLES_CLAIM = "roles";
+
     /**
      * Secret key used to sign the JWT.
      * Loaded from application properties: {@code app.jwt.secret}.
@@ -38,6 +74,73 @@ public class JwtService {
     @Value("${app.jwt.expiration}")
     private long jwtExpiration;
 
+    /**
+     * Maximum number of verified tokens kept in the claims cache.
+     * Loaded from application properties: {@code app.jwt.claims-cache.max-size}.
+     */
+    @Value("${app.jwt.claims-cache.max-size}")
+    private long claimsCacheMaxSize;
+
+    /**
+     * Maximum time in milliseconds a verified token stays in the claims cache.
+     * Loaded from application properties: {@code app.jwt.claims-cache.ttl}.
+     */
+    @Value("${app.jwt.claims-cache.ttl}")
+    private long claimsCacheTtl;
+
+    private final MeterRegistry meterRegistry;
+
+    private Key signingKey;
+    private JwtParser jwtParser;
+    private Cache<String, Claims> claimsCache;
+    private Timer parseTimer;
+    private Timer signTimer;
+
+    /**
+     * Decodes the secret and builds the parser and claims cache once, instead of on every call.
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new ClaimsExpiry(TimeUnit.MILLISECONDS.toNanos(claimsCacheTtl)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwtClaims");
+        parseTimer = Timer.builder("taskmanager.jwt.parse")
+                .description("Time to verify a token not found in the claims cache")
+                .register(meterRegistry);
+        signTimer = Timer.builder("taskmanager.jwt.sign")
+                .description("Time to build and sign a token")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Verifies the token and returns its claims.
+     * <p>
+     * The signature and expiration are checked only the first time a token is seen;
+     * later calls with the same token are answered from the claims cache until the
+     * token expires or the cache TTL elapses, whichever comes first.
+     * </p>
+     *
+     * @param token the JWT token
+     * @return the verified claims
+     * @throws JwtException if the token is malformed, has an invalid signature or has expired
+     */
+    public Claims parseToken(String token) {
+        String key = hash(token);
+        Claims claims = claimsCache.getIfPresent(key);
+        if (claims == null) {
+            claims = extractAllClaims(token);
+            claimsCache.put(key, claims);
+        }
+        return claims;
+    }
+
     /**
      * Extracts the username (subject) from the given JWT token.
      *
@@ -57,18 +160,56 @@ public class JwtService {
      * @return the extracted claim
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseToken(token);
         return claimsResolver.apply(claims);
     }
 
     /**
-     * Generates a JWT token with no additional claims for the given user.
+     * Extracts the user ID embedded in the token.
+     *
+     * @param claims the verified token claims
+     * @return the user ID, or {@code null} for tokens issued without one
+     */
+    public Long extractUserId(Claims claims) {
+        Object userId = claims.get(USER_ID_CLAIM);
+        return userId instanceof Number number ? number.longValue() : null;
+    }
+
+    /**
+     * Extracts the authorities embedded in the token.
+     *
+     * @param claims the verified token claims
+     * @return the granted authorities, empty for tokens issued without any
+     */
+    public List<GrantedAuthority> extractAuthorities(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(roles instanceof Collection<?> values)) {
+            return List.of();
+        }
+        return values.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.toString()))
+                .toList();
+    }
+
+    /**
+     * Generates a JWT token for the given user.
+     * <p>
+     * The token carries the user ID and authorities as claims, so that requests can be
+     * authenticated from the token alone when {@code app.jwt.stateless-auth} is enabled.
+     * </p>
      *
      * @param userDetails the user information
      * @return the generated JWT token
      */
     public String generateToken(UserDetails userDetails) {
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user && user.getId() != null) {
+            claims.put(USER_ID_CLAIM, user.getId());
+        }
+        claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        return generateToken(claims, userDetails);
     }
 
     /**
@@ -98,14 +239,14 @@ public class JwtService {
             UserDetails userDetails,
             long expiration
     ) {
-        return Jwts
+        return signTimer.record(() -> Jwts
                 .builder()
                 .setClaims(extraClaims)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
-                .compact();
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact());
     }
 
     /**
@@ -116,31 +257,80 @@ public class JwtService {
      * @return true if the token is valid, false otherwise
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(parseToken(token), userDetails);
+    }
+
+    /**
+     * Validates already verified claims by checking the username and expiration.
+     *
+     * @param claims the claims returned by {@link #parseToken(String)}
+     * @param userDetails the user to validate against
+     * @return true if the claims belong to the user and have not expired, false otherwise
+     */
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
+    /**
+     * Returns the hit, miss and eviction counters of the verified claims cache.
+     *
+     * @return a snapshot of the claims cache statistics
+     */
+    public CacheStats getClaimsCacheStats() {
+        return claimsCache.stats();
+    }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Returns the approximate number of tokens currently held in the claims cache.
+     *
+     * @return the number of cached tokens
+     */
+    public long getClaimsCacheSize() {
+        return claimsCache.estimatedSize();
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration() != null && claims.getExpiration().before(new Date());
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return parseTimer.record(() -> jwtParser
                 .parseClaimsJws(token)
-                .getBody();
+                .getBody());
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64URL.decode(secretKey);
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Expires cached claims at the token's own expiration time, or after the cache TTL if sooner.
+     */
+    private record ClaimsExpiry(long ttlNanos) implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            if (claims.getExpiration() == null) {
+                return ttlNanos;
+            }
+            long untilTokenExpiry = TimeUnit.MILLISECONDS.toNanos(
+                    claims.getExpiration().getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(ttlNanos, untilTokenExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
 
-        return Keys.hmacShaKeyFor(keyBytes);
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package com.treinetic.taskmanager.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.treinetic.taskmanager.config.RateLimitProperties;
+import com.treinetic.taskmanager.exception.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects requests over the configured rate with {@code 429 Too Many Requests}.
+ * <p>
+ * Runs right after {@link JwtAuthFilter}, so that requests to the task API are counted per
+ * authenticated user, while the authentication endpoints, which have no user yet, are counted per
+ * client IP. Each client has a {@link TokenBucket} per route; routes and their limits are
+ * configured under {@code app.rate-limit} (see {@link RateLimitProperties}). A rejected request
+ * never reaches the controller, so a client flooding {@code /api/auth/authenticate} costs no
+ * password hashing.
+ * </p>
+ *
+ * <p>
+ * Buckets live in a bounded Caffeine cache and are dropped after {@code idle-timeout} without
+ * requests; by then a bucket has refilled anyway. The client IP is the request's remote address,
+ * so behind a reverse proxy {@code server.forward-headers-strategy} must be set for it to be the
+ * real client's.
+ * </p>
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<LimitedRoute> routes;
+    private final Cache<String, TokenBucket> buckets;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.routes = properties.routes() == null ? List.of() : properties.routes().stream()
+                .map(route -> new LimitedRoute(PathPatternParser.defaultInstance.parse(route.path()), route))
+                .toList();
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxBuckets())
+                .expireAfterAccess(properties.idleTimeout())
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.enabled() || routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        LimitedRoute route = match(path);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = route.pattern().getPatternString() + " " + clientKey(route.limit().key(), request);
+        long now = System.nanoTime();
+        long waitNanos = buckets.get(key, k -> new TokenBucket(route.limit().capacity(), route.limit().refillPerSecond(), now))
+                .tryConsume(now);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        reject(request, response, Math.max(1, (long) Math.ceil((double) waitNanos / TimeUnit.SECONDS.toNanos(1))));
+    }
+
+    private LimitedRoute match(String path) {
+        PathContainer container = PathContainer.parsePath(path);
+        for (LimitedRoute route : routes) {
+            if (route.pattern().matches(container)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(RateLimitProperties.Key key, HttpServletRequest request) {
+        if (key == RateLimitProperties.Key.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                "Too Many Requests",
+                "Rate limit exceeded, retry in " + retryAfterSeconds + " seconds",
+                request.getRequestURI().substring(request.getContextPath().length())
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private record LimitedRoute(PathPattern pattern, RateLimitProperties.Route limit) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.treinetic.taskmanager.security;
+
+import com.treinetic.taskmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+
+/**
+ * In-memory set of users whose tokens must no longer be accepted.
+ * <p>
+ * Used by {@link JwtAuthFilter} when requests are authenticated from token claims alone,
+ * so that revoking a user takes effect without a database lookup on every request.
+ * The set is reloaded periodically ({@code app.jwt.deny-list.refresh-interval}) and only
+ * holds users revoked within the last token lifetime, since older tokens have already expired.
+ * </p>
+ *
+ * <p>
+ * Users are revoked by setting {@code user.revoked_at}. A user must be revoked before their
+ * row is deleted, otherwise their outstanding tokens stay valid until they expire.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RevokedUserDenyList {
+    private final UserRepository userRepository;
+
+    @Value("${app.jwt.expiration}")
+    private long jwtExpiration;
+
+    private volatile Set<Long> revokedUserIds = Set.of();
+
+    /**
+     * Checks whether the user has been revoked.
+     *
+     * @param userId the ID of the user
+     * @return true if tokens issued to this user must be rejected
+     */
+    public boolean isRevoked(Long userId) {
+        return revokedUserIds.contains(userId);
+    }
+
+    /**
+     * Reloads the set of revoked users from the database.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.deny-list.refresh-interval}")
+    public void refresh() {
+        LocalDateTime since = LocalDateTime.now().minus(jwtExpiration, ChronoUnit.MILLIS);
+        revokedUserIds = Set.copyOf(userRepository.findIdsRevokedSince(since));
+    }
+}
@@ -0,0 +1,47 @@
+package com.treinetic.taskmanager.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket.
+ * <p>
+ * The bucket holds up to {@code capacity} tokens and gains {@code refillPerSecond} tokens per
+ * second, up to the capacity. Refilling is computed lazily from the elapsed time whenever a token
+ * is taken, and the state is swapped with a compare-and-set, so concurrent requests of the same
+ * client never block each other.
+ * </p>
+ */
+final class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    private record State(double tokens, long refilledAt) {
+    }
+
+    TokenBucket(long capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    /**
+     * Takes a token if one is available.
+     *
+     * @param now the current {@link System#nanoTime()}
+     * @return {@code 0} if a token was taken, otherwise the number of nanoseconds until one will be available
+     */
+    long tryConsume(long now) {
+        while (true) {
+            State current = state.get();
+            double tokens = Math.min(capacity, current.tokens() + Math.max(0, now - current.refilledAt()) * tokensPerNano);
+            if (tokens < 1) {
+                return tokensPerNano > 0 ? (long) Math.ceil((1 - tokens) / tokensPerNano) : Long.MAX_VALUE;
+            }
+            if (state.compareAndSet(current, new State(tokens - 1, Math.max(now, current.refilledAt())))) {
+                return 0;
+            }
+        }
+    }
+}
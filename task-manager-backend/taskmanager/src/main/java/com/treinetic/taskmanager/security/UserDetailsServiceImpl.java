@@ -1,9 +1,11 @@
 package com.treinetic.taskmanager.security;
 
+import com.treinetic.taskmanager.cache.UserCache;
 import com.treinetic.taskmanager.model.User;
 import com.treinetic.taskmanager.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,17 +15,36 @@ import org.springframework.stereotype.Service;
  * <p>
  * This service interacts with the {@link UserRepository} to retrieve user details from the database
  * based on the provided username, and returns a {@link UserDetails} object for Spring Security's authentication process.
+ * Users are served from the {@link UserCache} when possible.
+ * </p>
+ *
+ * <p>
+ * As a {@link UserDetailsPasswordService}, it stores the re-hashed password Spring Security
+ * produces after a successful login with a hash whose BCrypt work factor is out of date.
  * </p>
  */
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        User user = userCache.get(username, name -> userRepository.findByUsername(name).orElse(null));
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with username: " + username);
+        }
+        return user;
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        userCache.evict(user.getUsername());
         return user;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.treinetic.taskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.treinetic.taskmanager.dto.TaskImportError;
+import com.treinetic.taskmanager.dto.TaskImportResponse;
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.export.TaskExportFormat;
+import com.treinetic.taskmanager.export.TaskImportReader;
+import com.treinetic.taskmanager.export.TaskImportRow;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service class for importing many tasks at once from an NDJSON or CSV upload.
+ * <p>
+ * The upload is parsed row by row as it arrives and never buffered as a whole. Every row is
+ * validated against the same rules as a single {@link TaskRequest}; valid rows are collected
+ * into chunks of {@code app.tasks.import.chunk-size}, and each chunk is written by
+ * {@link TaskService#importTasks(List)} in its own transaction. Memory use is therefore bounded
+ * by the chunk size, not the size of the file.
+ * </p>
+ *
+ * <p>
+ * An import is not atomic: chunks committed before a failure, such as the client disconnecting,
+ * stay imported. Invalid rows are skipped and reported, and do not fail the import.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+    private final TaskService taskService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.tasks.import.chunk-size}")
+    private int chunkSize;
+
+    @Value("${app.tasks.import.max-errors}")
+    private int maxErrors;
+
+    /**
+     * Imports the tasks read from {@code in} for the currently authenticated user.
+     *
+     * @param format the format of the upload
+     * @param in     the upload; it is read to the end but not closed
+     * @return how many rows were read, imported and rejected, with the first rejected rows
+     * @throws IOException if reading the upload fails
+     */
+    public TaskImportResponse importTasks(TaskExportFormat format, Reader in) throws IOException {
+        long started = System.nanoTime();
+        TaskImportReader reader = format.openReader(in, objectMapper);
+        List<TaskRequest> chunk = new ArrayList<>(chunkSize);
+        List<TaskImportError> errors = new ArrayList<>();
+        long processed = 0;
+        long imported = 0;
+        long failed = 0;
+
+        TaskImportRow row;
+        while ((row = reader.next()) != null) {
+            processed++;
+            String error = row.error() != null ? row.error() : TaskService.describe(validator.validate(row.task()));
+            if (error != null) {
+                failed++;
+                if (errors.size() < maxErrors) {
+                    errors.add(new TaskImportError(row.line(), error));
+                }
+                continue;
+            }
+            chunk.add(row.task());
+            if (chunk.size() == chunkSize) {
+                imported += taskService.importTasks(chunk);
+                chunk.clear();
+                log.debug("Imported {} of {} tasks read so far", imported, processed);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            imported += taskService.importTasks(chunk);
+        }
+
+        log.info("Imported {} tasks from {} rows ({} rejected) in {} ms",
+                imported, processed, failed, (System.nanoTime() - started) / 1_000_000);
+        return TaskImportResponse.builder()
+                .processed(processed)
+                .imported(imported)
+                .failed(failed)
+                .errors(errors)
+                .errorsTruncated(failed > errors.size())
+                .build();
+    }
+}
@@ -1,21 +1,71 @@
 package com.treinetic.taskmanager.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.treinetic.taskmanager.cache.TaskCache;
+import com.treinetic.taskmanager.dto.ChangedTask;
+import com.treinetic.taskmanager.dto.TaskBatchOperation;
+import com.treinetic.taskmanager.dto.TaskBatchRequest;
+import com.treinetic.taskmanager.dto.TaskBatchResponse;
+import com.treinetic.taskmanager.dto.TaskBatchResult;
+import com.treinetic.taskmanager.dto.TaskChangesResponse;
+import com.treinetic.taskmanager.dto.TaskCollectionVersion;
+import com.treinetic.taskmanager.dto.TaskCursor;
+import com.treinetic.taskmanager.dto.TaskPageResponse;
+import com.treinetic.taskmanager.dto.TaskQuery;
 import com.treinetic.taskmanager.dto.TaskRequest;
 import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.dto.TaskSummaryResponse;
+import com.treinetic.taskmanager.event.TaskChangedEvent;
+import com.treinetic.taskmanager.exception.BadRequestException;
+import com.treinetic.taskmanager.exception.PreconditionFailedException;
 import com.treinetic.taskmanager.exception.ResourceNotFoundException;
+import com.treinetic.taskmanager.export.TaskExportFormat;
+import com.treinetic.taskmanager.export.TaskExportWriter;
+import com.treinetic.taskmanager.mapper.TaskMapper;
 import com.treinetic.taskmanager.model.Task;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.TaskTombstone;
+import com.treinetic.taskmanager.model.TaskWatermark;
 import com.treinetic.taskmanager.model.User;
 import com.treinetic.taskmanager.repository.TaskRepository;
+import com.treinetic.taskmanager.repository.TaskSpecifications;
+import com.treinetic.taskmanager.repository.TaskTombstoneRepository;
+import com.treinetic.taskmanager.repository.TaskWatermarkRepository;
 import com.treinetic.taskmanager.repository.UserRepository;
+import com.treinetic.taskmanager.search.TaskSearchIndex;
+import com.treinetic.taskmanager.stream.TaskChangeHub;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service class for handling task-related business logic.
@@ -32,32 +82,172 @@ import java.util.stream.Collectors;
  * Dependencies:
  * <ul>
  *     <li>{@link TaskRepository} - for task database operations</li>
- *     <li>{@link UserRepository} - for fetching user details</li>
- *     <li>{@link ModelMapper} - for mapping between DTOs and entities</li>
+ *     <li>{@link UserRepository} - for referencing the owning user</li>
+ *     <li>{@link TaskWatermarkRepository} - for tracking when each user's tasks last changed</li>
+ *     <li>{@link TaskTombstoneRepository} - for remembering deleted tasks until clients have synced</li>
+ *     <li>{@link TaskMapper} - for mapping between DTOs and entities</li>
+ *     <li>{@link TaskSearchIndex} - for full-text search over task titles and descriptions</li>
+ *     <li>{@link TaskCache} - for serving repeated reads of the same task</li>
+ *     <li>{@link ApplicationEventPublisher} - for publishing {@link TaskChangedEvent}s</li>
+ *     <li>{@link TaskChangeHub} - for streaming committed changes to the owner's clients</li>
+ *     <li>{@link TaskSummaryService} - for keeping the per-status task counts current</li>
+ *     <li>{@link Validator} - for validating the individual operations of a batch</li>
+ *     <li>{@link ObjectMapper} - for writing exported tasks as JSON</li>
  * </ul>
  * </p>
+ *
+ * <p>
+ * Every public method is timed as {@code taskmanager.service}, tagged with the class, method and exception.
+ * </p>
  */
+@Timed("taskmanager.service")
 @Service
 @RequiredArgsConstructor
 public class TaskService {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
-    private final ModelMapper modelMapper;
+    private final TaskWatermarkRepository taskWatermarkRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskMapper taskMapper;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TaskCache taskCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskChangeHub taskChangeHub;
+    private final TaskSummaryService taskSummaryService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.tasks.page.default-size}")
+    private int defaultPageSize;
+
+    @Value("${app.tasks.page.max-size}")
+    private int maxPageSize;
+
+    @Value("${app.search.max-results}")
+    private int maxSearchResults;
+
+    @Value("${app.tasks.batch.max-size}")
+    private int maxBatchSize;
+
+    @Value("${app.tasks.export.fetch-size}")
+    private int exportFetchSize;
+
+    @Value("${app.tasks.changes.max-size}")
+    private int maxChangesSize;
+
+    /**
+     * Returns the current version of the authenticated user's task collection.
+     * <p>
+     * This is a primary-key lookup of the user's watermark and never touches the {@code task}
+     * table, so clients can be told that their copy is still current without running the listing.
+     * Callers should read the version before the data it describes: a change committed in between
+     * then only causes an unnecessary refresh, never a stale copy being reported as current.
+     * </p>
+     *
+     * @return the collection's version and modification time
+     */
+    public TaskCollectionVersion getCollectionVersion() {
+        User user = getCurrentUser();
+        return taskWatermarkRepository.findById(user.getId())
+                .map(watermark -> new TaskCollectionVersion(user.getId(), watermark.getVersion(), watermark.getLastModified()))
+                .orElseGet(() -> new TaskCollectionVersion(user.getId(), 0, null));
+    }
+
+    /**
+     * Retrieves one page of tasks belonging to the currently authenticated user that
+     * match the given filters, ordered by creation time.
+     * <p>
+     * Filtering and ordering are done by the database, using the composite indexes on
+     * the {@code task} table. Pagination is keyset-based: the cursor encodes the
+     * {@code (createdAt, id)} of the last task of the previous page, so each page is read
+     * straight from the index instead of skipping over an offset.
+     * </p>
+     *
+     * <p>
+     * Rows are read straight into {@link TaskResponse}s by a projection query, so no entities
+     * are loaded and nothing is left to lazily initialise once the response is being written.
+     * </p>
+     *
+     * @param taskQuery the filters, ordering, cursor and page size requested by the client
+     * @return a {@link TaskPageResponse} holding the tasks and the cursor for the next page
+     * @throws BadRequestException if the cursor or limit is invalid
+     */
+    public TaskPageResponse getTasksForCurrentUser(TaskQuery taskQuery) {
+        User user = getCurrentUser();
+        int pageSize = resolvePageSize(taskQuery.getLimit());
+        Sort.Direction direction = taskQuery.getDirection() != null ? taskQuery.getDirection() : Sort.Direction.DESC;
+
+        Specification<Task> spec = TaskSpecifications.ownedBy(user.getId());
+        if (taskQuery.getStatus() != null) {
+            spec = spec.and(TaskSpecifications.hasStatus(taskQuery.getStatus()));
+        }
+        if (taskQuery.getCreatedFrom() != null) {
+            spec = spec.and(TaskSpecifications.createdFrom(taskQuery.getCreatedFrom()));
+        }
+        if (taskQuery.getCreatedTo() != null) {
+            spec = spec.and(TaskSpecifications.createdBefore(taskQuery.getCreatedTo()));
+        }
+        if (taskQuery.getTitlePrefix() != null && !taskQuery.getTitlePrefix().isEmpty()) {
+            spec = spec.and(TaskSpecifications.titleStartsWith(taskQuery.getTitlePrefix()));
+        }
+        if (taskQuery.getCursor() != null && !taskQuery.getCursor().isBlank()) {
+            spec = spec.and(TaskSpecifications.after(TaskCursor.decode(taskQuery.getCursor()), direction));
+        }
+
+        Sort sort = Sort.by(direction, "createdAt", "id");
+        // Read one extra row to find out whether another page follows.
+        List<TaskResponse> tasks = taskRepository.findResponses(spec, sort, pageSize + 1);
+
+        boolean hasMore = tasks.size() > pageSize;
+        List<TaskResponse> page = hasMore ? tasks.subList(0, pageSize) : tasks;
+        return TaskPageResponse.builder()
+                .items(page)
+                .nextCursor(hasMore ? TaskCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
 
     /**
-     * Retrieves all tasks belonging to the currently authenticated user.
+     * Searches the current user's tasks by title and description.
+     * <p>
+     * Matching and ranking are done by the in-memory {@link TaskSearchIndex}; only the
+     * best matches are then loaded from the database.
+     * </p>
      *
-     * @return a list of {@link TaskResponse} objects
+     * @param query the free-text query
+     * @param limit the maximum number of results, or {@code null} for the configured maximum
+     * @return the matching tasks, best match first
+     * @throws BadRequestException if the query is blank or the limit is not positive
      */
-    public List<TaskResponse> getAllTasksForCurrentUser() {
+    public List<TaskResponse> searchTasks(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Query must not be blank");
+        }
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("Limit must be greater than zero");
+        }
         User user = getCurrentUser();
-        return taskRepository.findByUserId(user.getId()).stream()
-                .map(this::convertToResponse)
+        int maxResults = limit == null ? maxSearchResults : Math.min(limit, maxSearchResults);
+
+        List<Long> ids = taskSearchIndex.search(user.getId(), query, maxResults);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, TaskResponse> tasks = taskRepository.findResponsesByUserIdAndIdIn(user.getId(), ids).stream()
+                .collect(Collectors.toMap(TaskResponse::getId, Function.identity()));
+        return ids.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
     /**
      * Retrieves a specific task by its ID if it belongs to the current user.
+     * <p>
+     * Ownership is checked by the query itself; the task's existence is only looked up
+     * again when nothing matched, to tell a missing task from someone else's.
+     * Tasks read here are kept in the {@link TaskCache}, which the query is skipped for.
+     * </p>
      *
      * @param id the ID of the task
      * @return the corresponding {@link TaskResponse}
@@ -65,12 +255,159 @@ public class TaskService {
      * @throws AccessDeniedException if the task does not belong to the current user
      */
     public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        User user = getCurrentUser();
+        TaskResponse cached = taskCache.get(id);
+        if (cached != null && cached.getUserId().equals(user.getId())) {
+            return cached;
+        }
+        TaskResponse task = taskRepository.findResponseByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> notFoundOrForbidden(id));
+        taskCache.put(task);
+        return task;
+    }
+
+    /**
+     * Returns how many of the currently authenticated user's tasks are in each status.
+     * <p>
+     * The counts are maintained as tasks are written and served from memory; see
+     * {@link TaskSummaryService}. No tasks are read.
+     * </p>
+     *
+     * @return the per-status counts and their total
+     */
+    public TaskSummaryResponse getSummary() {
+        return taskSummaryService.getSummary(getCurrentUser().getId());
+    }
+
+    /**
+     * Returns the changes to the currently authenticated user's tasks since a sync cursor.
+     * <p>
+     * The cursor is the user's watermark version: every task is stamped with the version of its
+     * last change and every deletion leaves a {@link TaskTombstone}, and both are read through
+     * {@code (user_id, change_version)} indexes. The cost of a sync therefore depends on how much
+     * has changed since the cursor, not on how many tasks the user has. Without a cursor, all of
+     * the user's tasks are returned, for a client's first sync.
+     * </p>
+     *
+     * <p>
+     * At most {@code limit} changes are returned, oldest first. A page always ends on a version
+     * boundary, so that the tasks of one batch are never split across pages; a single version with
+     * more changes than {@code limit} is returned whole.
+     * </p>
+     *
+     * @param since the cursor returned by the previous sync, or {@code null} for a full sync
+     * @param limit the maximum number of changes to return; defaults to and is capped by {@code app.tasks.changes.max-size}
+     * @return the changed tasks, the IDs of deleted tasks and the cursor to sync from next
+     * @throws BadRequestException if the cursor or limit is negative
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getChanges(Long since, Integer limit) {
+        User user = getCurrentUser();
+        if (since != null && since < 0) {
+            throw new BadRequestException("Cursor must not be negative");
+        }
+        if (limit != null && limit < 1) {
+            throw new BadRequestException("Limit must be greater than zero");
+        }
+        int size = limit == null ? maxChangesSize : Math.min(limit, maxChangesSize);
+
+        // Read first: changes committed after this snapshot are left for the next sync.
+        TaskWatermark watermark = taskWatermarkRepository.findById(user.getId())
+                .orElseGet(() -> new TaskWatermark(user.getId(), 0, null, 0));
+        long upTo = watermark.getVersion();
+        if (since != null && (since < watermark.getPurgedVersion() || since > upTo)) {
+            return TaskChangesResponse.builder()
+                    .changed(List.of())
+                    .deleted(List.of())
+                    .cursor(upTo)
+                    .resetRequired(true)
+                    .build();
+        }
+
+        // Tasks written before change versions were introduced have version 0.
+        long from = since == null ? -1 : since;
+        List<ChangedTask> tasks = taskRepository.findChanges(user.getId(), from, upTo, Limit.of(size + 1));
+        // A full sync has nothing to delete yet.
+        List<TaskTombstone> tombstones = since == null ? List.of()
+                : taskTombstoneRepository.findChanges(user.getId(), from, upTo, Limit.of(size + 1));
 
-        verifyTaskOwnership(task);
+        long through = upTo;
+        if (tasks.size() + tombstones.size() > size) {
+            List<Long> versions = Stream.concat(
+                            tasks.stream().map(ChangedTask::changeVersion),
+                            tombstones.stream().map(TaskTombstone::getChangeVersion))
+                    .sorted()
+                    .limit(size + 1)
+                    .toList();
+            long split = versions.get(size);
+            if (versions.get(0) < split) {
+                // End the page before the version that does not fit entirely.
+                through = versions.stream().filter(version -> version < split).max(Long::compare).orElseThrow();
+            } else {
+                // The whole page is a single version; return all of it.
+                through = split;
+                tasks = taskRepository.findChanges(user.getId(), from, through, Limit.unlimited());
+                tombstones = since == null ? List.of()
+                        : taskTombstoneRepository.findChanges(user.getId(), from, through, Limit.unlimited());
+            }
+        }
 
-        return convertToResponse(task);
+        long cursor = through;
+        return TaskChangesResponse.builder()
+                .changed(tasks.stream()
+                        .filter(task -> task.changeVersion() <= cursor)
+                        .map(ChangedTask::task)
+                        .toList())
+                .deleted(tombstones.stream()
+                        .filter(tombstone -> tombstone.getChangeVersion() <= cursor)
+                        .map(TaskTombstone::getTaskId)
+                        .toList())
+                .cursor(cursor)
+                .hasMore(cursor < upTo)
+                .build();
+    }
+
+    /**
+     * Opens a stream of the changes made to the currently authenticated user's tasks.
+     * <p>
+     * Every create, update and delete is pushed once its transaction has committed, whichever
+     * client or node-local request made it. The stream does not replay earlier changes, so
+     * clients should load their tasks after subscribing and apply the pushed changes on top.
+     * </p>
+     *
+     * @return the emitter the changes are sent to as server-sent events
+     */
+    public SseEmitter subscribeToChanges() {
+        return taskChangeHub.subscribe(getCurrentUser().getId());
+    }
+
+    /**
+     * Writes all of the current user's tasks to {@code out} in the given format, oldest first.
+     * <p>
+     * Rows are streamed from a forward-only cursor ({@code app.tasks.export.fetch-size} rows per
+     * round trip) and written out one at a time as they arrive, so the export runs in constant
+     * memory however many tasks the user has. The read-only transaction, and with it the
+     * connection, stays open until the last row has been written.
+     * </p>
+     *
+     * @param format the format to write
+     * @param out    the character stream to write to; it is flushed but not closed
+     * @return the number of tasks written
+     * @throws IOException if writing to {@code out} fails
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(TaskExportFormat format, Writer out) throws IOException {
+        User user = getCurrentUser();
+        TaskExportWriter writer = format.open(out, objectMapper);
+        long written = 0;
+        try (Stream<TaskResponse> tasks = taskRepository.streamResponsesByUserId(user.getId(), exportFetchSize)) {
+            for (Iterator<TaskResponse> it = tasks.iterator(); it.hasNext(); ) {
+                writer.write(it.next());
+                written++;
+            }
+        }
+        writer.finish();
+        return written;
     }
 
     /**
@@ -79,88 +416,414 @@ public class TaskService {
      * @param taskRequest the task data from the client
      * @return the created {@link TaskResponse}
      */
+    @Transactional
     public TaskResponse createTask(TaskRequest taskRequest) {
         User user = getCurrentUser();
-
-        Task task = modelMapper.map(taskRequest, Task.class);
-        task.setUser(user);
+        Task task = taskMapper.toEntity(taskRequest, userRepository.getReferenceById(user.getId()));
+        long changeVersion = nextChangeVersion(user.getId(), LocalDateTime.now());
+        task.setChangeVersion(changeVersion);
 
         Task savedTask = taskRepository.save(task);
-        return convertToResponse(savedTask);
+        TaskStatusCounts delta = new TaskStatusCounts();
+        delta.move(null, savedTask.getStatus());
+        taskSummaryService.adjust(user.getId(), changeVersion, delta);
+        TaskResponse response = taskMapper.toResponse(savedTask, user);
+        eventPublisher.publishEvent(TaskChangedEvent.created(response));
+        return response;
+    }
+
+    /**
+     * Creates a chunk of already validated tasks for the current user in one transaction.
+     * <p>
+     * Used by {@link TaskImportService}, which calls it once per chunk so that each chunk is
+     * committed on its own. The inserts are sent in JDBC batches, and the persistence context
+     * only ever holds a single chunk.
+     * </p>
+     *
+     * @param taskRequests the tasks to create
+     * @return the number of tasks created
+     */
+    @Transactional
+    public int importTasks(List<TaskRequest> taskRequests) {
+        User user = getCurrentUser();
+        User owner = userRepository.getReferenceById(user.getId());
+        List<Task> tasks = taskRequests.stream()
+                .map(taskRequest -> taskMapper.toEntity(taskRequest, owner))
+                .toList();
+        long changeVersion = nextChangeVersion(user.getId(), LocalDateTime.now());
+        tasks.forEach(task -> task.setChangeVersion(changeVersion));
+
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        TaskStatusCounts delta = new TaskStatusCounts();
+        tasks.forEach(task -> delta.move(null, task.getStatus()));
+        taskSummaryService.adjust(user.getId(), changeVersion, delta);
+        for (Task task : tasks) {
+            eventPublisher.publishEvent(TaskChangedEvent.created(taskMapper.toResponse(task, user)));
+        }
+        return tasks.size();
     }
 
     /**
      * Updates an existing task if it belongs to the current user.
+     * <p>
+     * The update is a single {@code UPDATE ... WHERE id = ? AND user_id = ?} statement,
+     * followed by a read of the updated row for the response.
+     * </p>
+     *
+     * <p>
+     * If the client states the versions it accepts, the statement also requires
+     * {@code version IN (?)}, so a concurrent edit made in the meantime is detected instead of
+     * silently overwritten. No row lock is taken: whichever update commits first wins, and
+     * the other one is rejected.
+     * </p>
      *
      * @param id the ID of the task to update
      * @param taskRequest the new task data
+     * @param expectedVersions the versions the client accepts, or {@code null} to update unconditionally
      * @return the updated {@link TaskResponse}
      * @throws ResourceNotFoundException if the task is not found
      * @throws AccessDeniedException if the task does not belong to the current user
+     * @throws PreconditionFailedException if the task no longer has any of the expected versions
      */
-    public TaskResponse updateTask(Long id, TaskRequest taskRequest) {
-        Task existingTask = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
-
-        verifyTaskOwnership(existingTask);
+    @Transactional
+    public TaskResponse updateTask(Long id, TaskRequest taskRequest, Set<Long> expectedVersions) {
+        User user = getCurrentUser();
+        LocalDateTime now = LocalDateTime.now();
+        // Taken before the status is read, so that no other write can change it in between.
+        long changeVersion = nextChangeVersion(user.getId(), now);
+        TaskStatus previousStatus = taskRepository.findStatusByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> notFoundOrForbidden(id));
+        int updated = taskRepository.updateByIdAndUserId(
+                id,
+                user.getId(),
+                expectedVersions == null,
+                expectedVersions == null ? Set.of() : expectedVersions,
+                taskRequest.getTitle(),
+                taskRequest.getDescription(),
+                taskRequest.getStatus(),
+                now,
+                changeVersion
+        );
+        if (updated == 0) {
+            if (expectedVersions != null && taskRepository.existsByIdAndUserId(id, user.getId())) {
+                throw new PreconditionFailedException("Task " + id + " no longer has any of the versions " + expectedVersions);
+            }
+            throw notFoundOrForbidden(id);
+        }
+        TaskStatusCounts delta = new TaskStatusCounts();
+        delta.move(previousStatus, taskRequest.getStatus());
+        taskSummaryService.adjust(user.getId(), changeVersion, delta);
 
-        modelMapper.map(taskRequest, existingTask);
-        Task updatedTask = taskRepository.save(existingTask);
-        return convertToResponse(updatedTask);
+        TaskResponse response = taskRepository.findResponseByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> notFoundOrForbidden(id));
+        eventPublisher.publishEvent(TaskChangedEvent.updated(response));
+        return response;
     }
 
     /**
      * Deletes a task by its ID if it belongs to the current user.
+     * <p>
+     * The delete is a single {@code DELETE ... WHERE id = ? AND user_id = ?} statement. A
+     * tombstone is recorded in its place, so that clients syncing with {@link #getChanges}
+     * learn about the deletion.
+     * </p>
      *
      * @param id the ID of the task to delete
      * @throws ResourceNotFoundException if the task is not found
      * @throws AccessDeniedException if the task does not belong to the current user
      */
+    @Transactional
     public void deleteTask(Long id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        User user = getCurrentUser();
+        LocalDateTime now = LocalDateTime.now();
+        // Taken before the status is read, so that no other write can change it in between.
+        long changeVersion = nextChangeVersion(user.getId(), now);
+        TaskStatus status = taskRepository.findStatusByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> notFoundOrForbidden(id));
+        if (taskRepository.deleteByIdAndUserId(id, user.getId()) == 0) {
+            throw notFoundOrForbidden(id);
+        }
+        taskTombstoneRepository.save(new TaskTombstone(id, user.getId(), changeVersion, now));
+        TaskStatusCounts delta = new TaskStatusCounts();
+        delta.move(status, null);
+        taskSummaryService.adjust(user.getId(), changeVersion, delta);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(user.getId(), id));
+    }
+
+    /**
+     * Applies a batch of create, status change and delete operations to the current user's tasks.
+     * <p>
+     * All tasks referred to by the batch are loaded with a single query. Each operation is then
+     * validated and checked for ownership on its own: rejected operations are reported in their
+     * result and skipped, while the accepted ones are applied to the persistence context and
+     * written in one flush at the end. With ordered JDBC batching and pooled ID generation, this
+     * sends the inserts, updates and deletes of the whole batch in a few round-trips.
+     * </p>
+     *
+     * <p>
+     * Operations are applied in order, so a task deleted earlier in the batch is reported as not
+     * found by a later operation on it.
+     * </p>
+     *
+     * <p>
+     * One change event is published per task, for its last operation: a task updated and then
+     * deleted in the same batch is only reported as deleted.
+     * </p>
+     *
+     * @param batchRequest the operations to apply
+     * @return one result per operation, in the order they were submitted
+     * @throws BadRequestException if the batch holds more operations than allowed
+     */
+    @Transactional
+    public TaskBatchResponse applyBatch(TaskBatchRequest batchRequest) {
+        List<TaskBatchOperation> operations = batchRequest.getOperations();
+        if (operations.size() > maxBatchSize) {
+            throw new BadRequestException("A batch may contain at most " + maxBatchSize + " operations");
+        }
+        User user = getCurrentUser();
+        User owner = userRepository.getReferenceById(user.getId());
 
-        verifyTaskOwnership(task);
+        Set<Long> ids = operations.stream()
+                .filter(operation -> operation != null && operation.getId() != null)
+                .map(TaskBatchOperation::getId)
+                .collect(Collectors.toSet());
+        Map<Long, Task> ownedTasks = ids.isEmpty() ? Map.of() : taskRepository.findByUserIdAndIdIn(user.getId(), ids)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Set<Long> otherIds = new HashSet<>(ids);
+        otherIds.removeAll(ownedTasks.keySet());
+        Set<Long> otherUsersTaskIds = otherIds.isEmpty() ? Set.of() : new HashSet<>(taskRepository.findExistingIds(otherIds));
+        Set<Long> deletedIds = new HashSet<>();
 
-        taskRepository.delete(task);
+        List<TaskBatchResult> results = new ArrayList<>(operations.size());
+        List<Task> applied = new ArrayList<>(operations.size());
+        List<Task> created = new ArrayList<>();
+        List<Task> deleted = new ArrayList<>();
+        TaskStatusCounts delta = new TaskStatusCounts();
+        for (int index = 0; index < operations.size(); index++) {
+            TaskBatchOperation operation = operations.get(index);
+            TaskBatchResult result = TaskBatchResult.builder()
+                    .index(index)
+                    .type(operation != null ? operation.getType() : null)
+                    .id(operation != null ? operation.getId() : null)
+                    .build();
+            results.add(result);
+            applied.add(null);
+
+            String error = validate(operation);
+            if (error != null) {
+                reject(result, HttpStatus.BAD_REQUEST, error);
+                continue;
+            }
+            if (operation.getType() == TaskBatchOperation.Type.CREATE) {
+                Task task = taskMapper.toEntity(operation.getTask(), owner);
+                created.add(task);
+                delta.move(null, task.getStatus());
+                applied.set(index, task);
+                result.setStatus(HttpStatus.CREATED.value());
+                continue;
+            }
+            Task task = deletedIds.contains(operation.getId()) ? null : ownedTasks.get(operation.getId());
+            if (task == null) {
+                RuntimeException ex = notFoundOrForbidden(operation.getId(), otherUsersTaskIds.contains(operation.getId()));
+                reject(result, ex instanceof AccessDeniedException ? HttpStatus.FORBIDDEN : HttpStatus.NOT_FOUND, ex.getMessage());
+                continue;
+            }
+            if (operation.getType() == TaskBatchOperation.Type.UPDATE_STATUS) {
+                delta.move(task.getStatus(), operation.getStatus());
+                task.setStatus(operation.getStatus());
+                result.setStatus(HttpStatus.OK.value());
+            } else {
+                deleted.add(task);
+                deletedIds.add(task.getId());
+                delta.move(task.getStatus(), null);
+                result.setStatus(HttpStatus.NO_CONTENT.value());
+            }
+            applied.set(index, task);
+        }
+
+        boolean changed = applied.stream().anyMatch(Objects::nonNull);
+        long changeVersion = 0;
+        if (changed) {
+            LocalDateTime now = LocalDateTime.now();
+            changeVersion = nextChangeVersion(user.getId(), now);
+            for (int index = 0; index < results.size(); index++) {
+                if (applied.get(index) != null && results.get(index).getType() != TaskBatchOperation.Type.DELETE) {
+                    applied.get(index).setChangeVersion(changeVersion);
+                }
+            }
+            long tombstoneVersion = changeVersion;
+            taskTombstoneRepository.saveAll(deleted.stream()
+                    .map(task -> new TaskTombstone(task.getId(), user.getId(), tombstoneVersion, now))
+                    .toList());
+        }
+        taskRepository.saveAll(created);
+        taskRepository.deleteAll(deleted);
+        taskRepository.flush();
+        if (changed) {
+            taskSummaryService.adjust(user.getId(), changeVersion, delta);
+        }
+
+        Map<Long, TaskChangedEvent> events = new LinkedHashMap<>();
+        for (int index = 0; index < results.size(); index++) {
+            TaskBatchResult result = results.get(index);
+            Task task = applied.get(index);
+            if (task == null) {
+                continue;
+            }
+            // Re-inserted, so that each task's event is published in the position of its last operation.
+            events.remove(task.getId());
+            if (result.getType() == TaskBatchOperation.Type.DELETE) {
+                events.put(task.getId(), TaskChangedEvent.deleted(user.getId(), task.getId()));
+                continue;
+            }
+            TaskResponse response = taskMapper.toResponse(task, user);
+            result.setId(task.getId());
+            result.setTask(response);
+            events.put(task.getId(), result.getType() == TaskBatchOperation.Type.CREATE
+                    ? TaskChangedEvent.created(response)
+                    : TaskChangedEvent.updated(response));
+        }
+        events.values().forEach(eventPublisher::publishEvent);
+
+        int failed = (int) results.stream().filter(result -> result.getError() != null).count();
+        return TaskBatchResponse.builder()
+                .results(results)
+                .succeeded(results.size() - failed)
+                .failed(failed)
+                .build();
     }
 
     /**
-     * Converts a {@link Task} entity to a {@link TaskResponse} DTO,
-     * including user information.
+     * Joins constraint violations into a single message, or returns {@code null} if there are none.
+     */
+    static String describe(Set<? extends ConstraintViolation<?>> violations) {
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Checks that a batch operation carries the fields its type requires.
      *
-     * @param task the task entity
-     * @return the corresponding {@link TaskResponse}
+     * @param operation the operation to check
+     * @return a description of what is wrong, or {@code null} if the operation is valid
      */
-    private TaskResponse convertToResponse(Task task) {
-        TaskResponse response = modelMapper.map(task, TaskResponse.class);
-        response.setUserId(task.getUser().getId());
-        response.setUsername(task.getUser().getUsername());
-        return response;
+    private String validate(TaskBatchOperation operation) {
+        if (operation == null) {
+            return "Operation is required";
+        }
+        if (operation.getType() == null) {
+            return "Type is required";
+        }
+        if (operation.getType() == TaskBatchOperation.Type.CREATE) {
+            if (operation.getTask() == null) {
+                return "Task is required";
+            }
+            return describe(validator.validate(operation.getTask()));
+        }
+        if (operation.getId() == null) {
+            return "Id is required";
+        }
+        if (operation.getType() == TaskBatchOperation.Type.UPDATE_STATUS && operation.getStatus() == null) {
+            return "Status is required";
+        }
+        return null;
+    }
+
+    private static void reject(TaskBatchResult result, HttpStatus status, String error) {
+        result.setStatus(status.value());
+        result.setError(error);
     }
 
     /**
-     * Retrieves the currently authenticated user based on the security context.
+     * Advances the user's watermark and returns the version the current transaction's changes are stamped with.
+     * <p>
+     * The watermark row stays locked until the transaction ends, so concurrent changes to the same
+     * user's tasks are serialized and commit in version order; a client that has synced up to a
+     * version can therefore never miss a change with a lower one.
+     * </p>
+     *
+     * <p>
+     * The serialization is deliberate, and it covers the whole rest of the transaction: a second
+     * write to the same user's tasks waits for the first to commit, including a whole batch or
+     * import chunk. The stored summary relies on it too, since a write's status read and summary
+     * adjustment cannot interleave with another write's. Writes of other users are not affected.
+     * Callers therefore take the version as late as they can, after validation and any work that
+     * does not need it. It costs each write two statements, the upsert and the read.
+     * </p>
+     *
+     * @param userId the ID of the user whose tasks are changing
+     * @param now    the time of the change
+     * @return the new version of the user's watermark
+     */
+    private long nextChangeVersion(Long userId, LocalDateTime now) {
+        taskWatermarkRepository.advance(userId, now);
+        return taskWatermarkRepository.findVersionByUserId(userId);
+    }
+
+    /**
+     * Resolves the requested page size against the configured default and maximum.
+     *
+     * @param limit the requested page size, or {@code null} for the default
+     * @return the page size to use
+     * @throws BadRequestException if the limit is not positive
+     */
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return defaultPageSize;
+        }
+        if (limit < 1) {
+            throw new BadRequestException("Limit must be greater than zero");
+        }
+        return Math.min(limit, maxPageSize);
+    }
+
+    /**
+     * Retrieves the currently authenticated user from the security context.
+     * <p>
+     * The principal is set by the JWT filter, so this never queries the database.
+     * </p>
      *
      * @return the current {@link User}
-     * @throws ResourceNotFoundException if the user is not found
+     * @throws ResourceNotFoundException if the request is not authenticated
      */
     private User getCurrentUser() {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof User user)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return user;
+    }
+
+    /**
+     * Builds the exception to throw when a task could not be found among the current user's tasks.
+     *
+     * @param id the ID of the task
+     * @return an {@link AccessDeniedException} if the task exists but is owned by another user,
+     * otherwise a {@link ResourceNotFoundException}
+     */
+    private RuntimeException notFoundOrForbidden(Long id) {
+        return notFoundOrForbidden(id, taskRepository.existsById(id));
     }
 
     /**
-     * Verifies that the task belongs to the currently authenticated user.
+     * Builds the exception to throw when a task could not be found among the current user's tasks,
+     * when it is already known whether the task exists at all.
      *
-     * @param task the task to verify
-     * @throws AccessDeniedException if the task is owned by another user
+     * @param id the ID of the task
+     * @param exists whether a task with this ID exists
+     * @return an {@link AccessDeniedException} if the task exists, otherwise a {@link ResourceNotFoundException}
      */
-    private void verifyTaskOwnership(Task task) {
-        User currentUser = getCurrentUser();
-        if (!task.getUser().getId().equals(currentUser.getId())) {
-            throw new AccessDeniedException("You don't have permission to access this task");
+    private RuntimeException notFoundOrForbidden(Long id, boolean exists) {
+        if (exists) {
+            return new AccessDeniedException("You don't have permission to access this task");
         }
+        return new ResourceNotFoundException("Task not found with id: " + id);
     }
-}
\ No newline at end of file
+}
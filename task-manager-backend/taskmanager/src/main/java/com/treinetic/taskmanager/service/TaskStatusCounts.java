@@ -0,0 +1,69 @@
+package com.treinetic.taskmanager.service;
+
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.TaskSummary;
+
+import java.util.Arrays;
+
+/**
+ * Per-status task counts, or changes to them, accumulated while tasks are written or counted.
+ */
+public final class TaskStatusCounts {
+    private final long[] counts = new long[TaskStatus.values().length];
+
+    /**
+     * Adds {@code delta} to the count of the given status.
+     */
+    public void add(TaskStatus status, long delta) {
+        counts[status.ordinal()] += delta;
+    }
+
+    /**
+     * Records a task moving from one status to another; {@code null} stands for a task that
+     * did not exist before, or no longer exists after.
+     */
+    public void move(TaskStatus from, TaskStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            add(from, -1);
+        }
+        if (to != null) {
+            add(to, 1);
+        }
+    }
+
+    public long get(TaskStatus status) {
+        return counts[status.ordinal()];
+    }
+
+    public boolean isZero() {
+        return Arrays.stream(counts).allMatch(count -> count == 0);
+    }
+
+    /**
+     * Checks whether a stored summary holds exactly these counts; a missing one holds none.
+     */
+    public boolean matches(TaskSummary summary) {
+        for (TaskStatus status : TaskStatus.values()) {
+            if (get(status) != (summary == null ? 0 : summary.count(status))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns these counts as a summary of the given user's tasks.
+     */
+    public TaskSummary toSummary(Long userId, long version) {
+        return new TaskSummary(userId, get(TaskStatus.TO_DO), get(TaskStatus.IN_PROGRESS), get(TaskStatus.DONE), version);
+    }
+
+    @Override
+    public String toString() {
+        return "{TO_DO=" + get(TaskStatus.TO_DO) + ", IN_PROGRESS=" + get(TaskStatus.IN_PROGRESS)
+                + ", DONE=" + get(TaskStatus.DONE) + "}";
+    }
+}
@@ -0,0 +1,146 @@
+package com.treinetic.taskmanager.service;
+
+import com.treinetic.taskmanager.cache.TaskSummaryCache;
+import com.treinetic.taskmanager.dto.TaskStatusCount;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.TaskSummary;
+import com.treinetic.taskmanager.model.TaskWatermark;
+import com.treinetic.taskmanager.repository.TaskRepository;
+import com.treinetic.taskmanager.repository.TaskSummaryRepository;
+import com.treinetic.taskmanager.repository.TaskWatermarkRepository;
+import com.treinetic.taskmanager.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Repairs task summaries that have drifted from the actual number of tasks.
+ * <p>
+ * Summaries can drift when tasks are changed outside the application, and they start out
+ * missing for users whose tasks predate them. Every {@code app.tasks.summary.reconcile-interval}
+ * all users are walked in batches of {@code app.tasks.summary.reconcile-batch-size}: the batch's
+ * tasks are counted with one grouped query and compared with the stored summaries, without locks.
+ * </p>
+ *
+ * <p>
+ * Only a user whose counts differ is recounted, with their summary row locked so that no write
+ * to their tasks can commit in between, and the corrected summary is stored. Cached counters that
+ * are behind the stored summary, or disagree with it at the same version, are evicted, so they
+ * are reloaded.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSummaryReconciler {
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TaskSummaryRepository taskSummaryRepository;
+    private final TaskWatermarkRepository taskWatermarkRepository;
+    private final TaskSummaryService taskSummaryService;
+    private final TaskSummaryCache taskSummaryCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.tasks.summary.reconcile-batch-size}")
+    private int batchSize;
+
+    /**
+     * Checks the summaries of all users and repairs those that have drifted.
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.summary.reconcile-interval}")
+    public void reconcile() {
+        long started = System.nanoTime();
+        long checked = 0;
+        int repaired = 0;
+        Long after = 0L;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(after, Limit.of(batchSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            repaired += reconcileBatch(userIds);
+            checked += userIds.size();
+            after = userIds.getLast();
+        } while (userIds.size() == batchSize);
+        log.info("Reconciled task summaries of {} users ({} repaired) in {} ms",
+                checked, repaired, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private int reconcileBatch(List<Long> userIds) {
+        Map<Long, TaskStatusCounts> actual = new HashMap<>();
+        for (TaskStatusCount count : taskRepository.countByStatusForUsers(userIds)) {
+            actual.computeIfAbsent(count.userId(), id -> new TaskStatusCounts()).add(count.status(), count.count());
+        }
+        Map<Long, TaskSummary> stored = taskSummaryRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(TaskSummary::getUserId, Function.identity()));
+
+        int repaired = 0;
+        for (Long userId : userIds) {
+            TaskSummary summary = stored.get(userId);
+            if (!actual.getOrDefault(userId, new TaskStatusCounts()).matches(summary)) {
+                // The difference may just be a write that committed between the two queries.
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> repair(userId)))) {
+                    repaired++;
+                    taskSummaryCache.evict(userId);
+                }
+            } else if (summary != null && drifted(taskSummaryCache.get(userId), summary)) {
+                log.warn("Evicting drifted task counters of user {}", userId);
+                taskSummaryCache.evict(userId);
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * Recounts the user's tasks with their summary locked and stores the result if it differs.
+     * <p>
+     * A missing summary is first created empty, so that there is a row to lock: a write creating
+     * the summary at the same time then either commits before the count or waits for the repair.
+     * </p>
+     *
+     * @return whether the stored summary was wrong
+     */
+    private boolean repair(Long userId) {
+        TaskSummary summary = taskSummaryRepository.findForUpdate(userId).orElse(null);
+        if (summary == null) {
+            taskSummaryRepository.insertIfAbsent(userId);
+        }
+        TaskStatusCounts counts = taskSummaryService.count(userId);
+        if (counts.matches(summary)) {
+            return false;
+        }
+        log.warn("Repairing task summary of user {}: stored {} but counted {}", userId, summary, counts);
+        long version = taskWatermarkRepository.findById(userId).map(TaskWatermark::getVersion).orElse(0L);
+        taskSummaryRepository.store(userId, counts.get(TaskStatus.TO_DO), counts.get(TaskStatus.IN_PROGRESS),
+                counts.get(TaskStatus.DONE), version);
+        return true;
+    }
+
+    private static boolean drifted(TaskSummaryCache.Counters counters, TaskSummary summary) {
+        if (counters == null || counters.getVersion() > summary.getVersion()) {
+            // A write committed after the summary was read.
+            return false;
+        }
+        if (counters.getVersion() < summary.getVersion()) {
+            // The counters missed a change, unless its event is still being applied; reloading is harmless either way.
+            return true;
+        }
+        for (TaskStatus status : TaskStatus.values()) {
+            if (counters.count(status) != summary.count(status)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,137 @@
+package com.treinetic.taskmanager.service;
+
+import com.treinetic.taskmanager.cache.TaskSummaryCache;
+import com.treinetic.taskmanager.dto.TaskStatusCount;
+import com.treinetic.taskmanager.dto.TaskSummaryResponse;
+import com.treinetic.taskmanager.event.TaskSummaryChangedEvent;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.TaskSummary;
+import com.treinetic.taskmanager.model.TaskWatermark;
+import com.treinetic.taskmanager.repository.TaskRepository;
+import com.treinetic.taskmanager.repository.TaskSummaryRepository;
+import com.treinetic.taskmanager.repository.TaskWatermarkRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Service class maintaining the per-user task counts behind the dashboard summary.
+ * <p>
+ * {@link TaskService} reports how each write moves tasks between statuses; the counts in the
+ * {@code task_summary} table are adjusted in the same transaction, and the in-memory counters of
+ * {@link TaskSummaryCache} once it has committed. Summaries are served from memory, and only
+ * read from the table when a user's counters are not cached.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskSummaryService {
+    private final TaskSummaryRepository taskSummaryRepository;
+    private final TaskRepository taskRepository;
+    private final TaskWatermarkRepository taskWatermarkRepository;
+    private final TaskSummaryCache taskSummaryCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Applies the status changes of a write to the user's stored summary, within the write's transaction.
+     * <p>
+     * Must be called once the write's changes have been flushed. If the user has no stored summary
+     * yet, because their tasks predate it or the reconciler has not recreated it, the changes are
+     * not applied to nothing: the user's tasks, which include the write, are counted and stored as
+     * the summary instead.
+     * </p>
+     *
+     * @param userId        the ID of the user whose tasks were written
+     * @param changeVersion the user's watermark version of the write
+     * @param delta         how many tasks entered (positive) or left (negative) each status
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void adjust(Long userId, long changeVersion, TaskStatusCounts delta) {
+        if (delta.isZero()) {
+            return;
+        }
+        long toDo = delta.get(TaskStatus.TO_DO);
+        long inProgress = delta.get(TaskStatus.IN_PROGRESS);
+        long done = delta.get(TaskStatus.DONE);
+        if (taskSummaryRepository.add(userId, toDo, inProgress, done, changeVersion) == 0) {
+            TaskStatusCounts counts = count(userId);
+            taskSummaryRepository.store(userId, counts.get(TaskStatus.TO_DO), counts.get(TaskStatus.IN_PROGRESS),
+                    counts.get(TaskStatus.DONE), changeVersion);
+        }
+        eventPublisher.publishEvent(new TaskSummaryChangedEvent(userId, changeVersion, toDo, inProgress, done));
+    }
+
+    /**
+     * Returns the number of the user's tasks in each status.
+     * <p>
+     * On a cache miss the counters are seeded from the stored summary. A write committing between
+     * the read and the seed is not applied to the new counters, so the stored version is read
+     * again afterwards: if it has moved past the seed, the counters are evicted and the summary
+     * is read once more instead.
+     * </p>
+     *
+     * @param userId the ID of the user
+     * @return the user's task counts
+     */
+    public TaskSummaryResponse getSummary(Long userId) {
+        TaskSummaryCache.Counters counters = taskSummaryCache.get(userId);
+        if (counters == null) {
+            counters = taskSummaryCache.seed(readOnlyTransaction.execute(status -> load(userId)));
+            if (taskSummaryRepository.findVersionByUserId(userId).orElse(0L) > counters.getVersion()) {
+                // A change may have been missed while seeding; the next request seeds again.
+                taskSummaryCache.evict(userId, counters);
+                TaskSummary summary = readOnlyTransaction.execute(status -> load(userId));
+                return toResponse(summary.getToDo(), summary.getInProgress(), summary.getDone());
+            }
+        }
+        return toResponse(counters.count(TaskStatus.TO_DO), counters.count(TaskStatus.IN_PROGRESS),
+                counters.count(TaskStatus.DONE));
+    }
+
+    private static TaskSummaryResponse toResponse(long toDo, long inProgress, long done) {
+        return TaskSummaryResponse.builder()
+                .toDo(toDo)
+                .inProgress(inProgress)
+                .done(done)
+                .total(toDo + inProgress + done)
+                .build();
+    }
+
+    /**
+     * Reads the user's stored summary, or counts their tasks if none has been stored yet.
+     */
+    private TaskSummary load(Long userId) {
+        return taskSummaryRepository.findById(userId).orElseGet(() -> count(userId).toSummary(userId,
+                taskWatermarkRepository.findById(userId).map(TaskWatermark::getVersion).orElse(0L)));
+    }
+
+    /**
+     * Counts the user's tasks per status from the {@code task} table.
+     *
+     * @param userId the ID of the user
+     * @return the actual number of the user's tasks in each status
+     */
+    TaskStatusCounts count(Long userId) {
+        TaskStatusCounts counts = new TaskStatusCounts();
+        for (TaskStatusCount count : taskRepository.countByStatusForUsers(List.of(userId))) {
+            counts.add(count.status(), count.count());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,69 @@
+package com.treinetic.taskmanager.service;
+
+import com.treinetic.taskmanager.model.TaskTombstone;
+import com.treinetic.taskmanager.repository.TaskTombstoneRepository;
+import com.treinetic.taskmanager.repository.TaskWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Removes tombstones of deleted tasks once clients have had time to sync them.
+ * <p>
+ * Tombstones older than {@code app.tasks.changes.tombstone-retention} are deleted in batches of
+ * {@code app.tasks.changes.compaction-batch-size}, each in its own short transaction. Before a
+ * batch is deleted, each affected user's watermark records the highest version removed, so that
+ * {@link TaskService#getChanges} can tell clients with an older cursor to sync from scratch
+ * instead of silently missing the deletions.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskTombstoneCompactor {
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskWatermarkRepository taskWatermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.tasks.changes.tombstone-retention}")
+    private Duration retention;
+
+    @Value("${app.tasks.changes.compaction-batch-size}")
+    private int batchSize;
+
+    /**
+     * Deletes all tombstones that have outlived the retention period.
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.changes.compaction-interval}")
+    public void compact() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long removed = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> compactBatch(cutoff));
+            removed += batch;
+        } while (batch == batchSize);
+        if (removed > 0) {
+            log.info("Compacted {} task tombstones older than {}", removed, cutoff);
+        }
+    }
+
+    private int compactBatch(LocalDateTime cutoff) {
+        List<TaskTombstone> expired = taskTombstoneRepository.findByDeletedAtBefore(cutoff, Limit.of(batchSize));
+        Map<Long, Long> purgedVersions = expired.stream()
+                .collect(Collectors.toMap(TaskTombstone::getUserId, TaskTombstone::getChangeVersion, Math::max));
+        purgedVersions.forEach(taskWatermarkRepository::raisePurgedVersion);
+        taskTombstoneRepository.deleteAllInBatch(expired);
+        return expired.size();
+    }
+}
@@ -0,0 +1,315 @@
+package com.treinetic.taskmanager.stream;
+
+import com.treinetic.taskmanager.event.TaskChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fans committed task changes out to the server-sent event streams of the owning user.
+ * <p>
+ * A stream is an asynchronous servlet response ({@link SseEmitter}): once subscribed, it holds
+ * no request thread, only a socket and a small buffer, so a node can keep tens of thousands of
+ * idle streams open. Publishing never blocks the committing thread either: a change is offered
+ * to the bounded buffer of each of the user's subscribers, and the buffers are written out by
+ * dispatch threads, one subscriber at a time.
+ * </p>
+ *
+ * <p>
+ * A subscriber that falls more than {@code app.stream.buffer-size} events behind, e.g. because
+ * its connection stalled, is removed at once, then sent a {@code reset} event and disconnected
+ * instead of buffering without limit; the client is expected to reload its tasks and subscribe
+ * again.
+ * </p>
+ *
+ * <p>
+ * Writes block while the client's TCP window is full, so a stalled client holds its dispatch
+ * thread. Threads are therefore created as needed rather than taken from a fixed pool, so that
+ * stalled clients cannot hold up the others, and a write taking longer than
+ * {@code app.stream.write-timeout} gets its subscriber removed and its stream completed with an
+ * error. Virtual threads are not used: the emitter writes inside a {@code synchronized} method,
+ * so a blocked write would pin the carrier thread.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TaskChangeHub {
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+    private static final Set<DataWithMediaType> RESET = SseEmitter.event()
+            .name("reset")
+            .data(Map.of("type", "RESET"), MediaType.APPLICATION_JSON)
+            .build();
+
+    /**
+     * Subscribers of every user with an open stream; each list is replaced, never modified,
+     * so publishing reads it without locking.
+     */
+    private final Map<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * Events buffered per subscriber before it is considered too slow and disconnected.
+     * Loaded from application properties: {@code app.stream.buffer-size}.
+     */
+    @Value("${app.stream.buffer-size}")
+    private int bufferSize;
+
+    /**
+     * Time in milliseconds after which a stream is closed; clients reconnect on their own.
+     * Loaded from application properties: {@code app.stream.timeout}.
+     */
+    @Value("${app.stream.timeout}")
+    private long timeout;
+
+    /**
+     * Maximum number of open streams per user; subscribing beyond it closes the oldest one.
+     * Loaded from application properties: {@code app.stream.max-subscribers-per-user}.
+     */
+    @Value("${app.stream.max-subscribers-per-user}")
+    private int maxSubscribersPerUser;
+
+    /**
+     * Time in milliseconds a single write may take before its stream is considered stalled.
+     * Loaded from application properties: {@code app.stream.write-timeout}.
+     */
+    @Value("${app.stream.write-timeout}")
+    private long writeTimeout;
+
+    private ExecutorService dispatcher;
+
+    @PostConstruct
+    void init() {
+        dispatcher = Executors.newCachedThreadPool(new CustomizableThreadFactory("task-stream-"));
+    }
+
+    /**
+     * Opens a stream of the user's task changes.
+     *
+     * @param userId the ID of the user whose changes are streamed
+     * @return the emitter to return from the request handler
+     */
+    public SseEmitter subscribe(Long userId) {
+        Subscriber subscriber = new Subscriber(userId, createEmitter(), bufferSize);
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> remove(subscriber));
+
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, current) -> {
+            List<Subscriber> next = new ArrayList<>(current == null ? List.of() : current);
+            while (next.size() >= maxSubscribersPerUser) {
+                evicted.add(next.remove(0));
+            }
+            next.add(subscriber);
+            return List.copyOf(next);
+        });
+        evicted.forEach(Subscriber::close);
+
+        // Sent straight away so that the response headers are flushed to the client.
+        subscriber.offer(SseEmitter.event().reconnectTime(1000).comment("connected").build());
+        return emitter;
+    }
+
+    /**
+     * Creates the emitter of a new stream.
+     */
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeout);
+    }
+
+    /**
+     * Queues a committed change for every open stream of the task's owner.
+     *
+     * @param event the change published by the task service
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        List<Subscriber> targets = subscribers.get(event.userId());
+        if (targets == null) {
+            return;
+        }
+        // Built once and shared: an event builder must not be built more than once.
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .name("task")
+                .data(event, MediaType.APPLICATION_JSON)
+                .build();
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(message);
+        }
+    }
+
+    /**
+     * Writes a comment to every stream, so that idle connections are not closed by proxies
+     * and broken ones are detected and released.
+     */
+    @Scheduled(fixedDelayString = "${app.stream.heartbeat-interval}")
+    public void sendHeartbeats() {
+        for (List<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                subscriber.offer(HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * Removes the streams whose current write has not finished within the write timeout and
+     * completes them with an error, so that the container releases their connections.
+     */
+    @Scheduled(fixedDelayString = "${app.stream.write-timeout}")
+    public void evictStalledSubscribers() {
+        long deadline = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(writeTimeout);
+        for (List<Subscriber> targets : subscribers.values()) {
+            for (Subscriber subscriber : targets) {
+                if (subscriber.isWritingSince(deadline)) {
+                    log.debug("Task stream of user {} stalled for over {} ms; closing it", subscriber.userId, writeTimeout);
+                    subscriber.abort();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of streams currently open on this node.
+     *
+     * @return the number of open streams
+     */
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Closes every stream and stops the dispatch threads once the application shuts down.
+     */
+    @PreDestroy
+    void shutdown() {
+        subscribers.values().forEach(targets -> targets.forEach(Subscriber::close));
+        dispatcher.shutdown();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, current) -> {
+            List<Subscriber> next = current.stream().filter(s -> s != subscriber).toList();
+            return next.isEmpty() ? null : next;
+        });
+    }
+
+    /**
+     * One open stream with its bounded buffer of events not yet written.
+     * <p>
+     * At most one dispatch thread drains a subscriber at a time, so events are written in the
+     * order they were queued and a slow connection only ever holds up a single thread.
+     * {@code writeStarted} is the {@link System#nanoTime()} at which the current write began, or
+     * {@code 0} between writes.
+     * </p>
+     */
+    private final class Subscriber {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile boolean closed;
+        private volatile long writeStarted;
+
+        Subscriber(Long userId, SseEmitter emitter, int bufferSize) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void offer(Set<DataWithMediaType> message) {
+            if (closed || overflowed) {
+                return;
+            }
+            if (!buffer.offer(message)) {
+                overflowed = true;
+                buffer.clear();
+                remove(this);
+            }
+            schedule();
+        }
+
+        boolean isWritingSince(long time) {
+            long started = writeStarted;
+            return started != 0 && started - time < 0;
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException ex) {
+                    // Shutting down; the stream is being closed anyway.
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> message;
+                while (!closed && !overflowed && (message = buffer.poll()) != null) {
+                    write(message);
+                }
+                if (overflowed && !closed) {
+                    log.debug("Task stream of user {} fell {} events behind; resetting it", userId, bufferSize);
+                    write(RESET);
+                    close();
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // The client went away, or the stream already completed or was aborted.
+                closed = true;
+                remove(this);
+            } finally {
+                writeStarted = 0;
+                scheduled.set(false);
+            }
+            if (!closed && !buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void write(Set<DataWithMediaType> message) throws IOException {
+            writeStarted = System.nanoTime();
+            emitter.send(message);
+            writeStarted = 0;
+        }
+
+        void close() {
+            closed = true;
+            remove(this);
+            emitter.complete();
+        }
+
+        /**
+         * Gives up on a stalled stream without waiting for its blocked write.
+         */
+        void abort() {
+            closed = true;
+            remove(this);
+            emitter.completeWithError(new IOException("Write to the task stream timed out"));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.treinetic.taskmanager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.treinetic.taskmanager.dto.AuthRequest;
+import com.treinetic.taskmanager.dto.AuthResponse;
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Base class of tests that call the REST API as a freshly registered user.
+ * <p>
+ * Before each test a new user is registered through {@code /api/auth/register}, so tests never
+ * see each other's tasks even though they share the application context and its database.
+ * </p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class ApiTestSupport {
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    protected String username;
+    protected Long userId;
+    protected String token;
+
+    @BeforeEach
+    void registerUser() throws Exception {
+        username = "api-user-" + USERS.incrementAndGet();
+        MvcResult result = mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new AuthRequest(username, "secret"))))
+                .andReturn();
+        AuthResponse auth = read(result, AuthResponse.class);
+        userId = auth.getUserId();
+        token = "Bearer " + auth.getToken();
+    }
+
+    /**
+     * Creates a task for the current user through the API and returns it as created.
+     */
+    protected TaskResponse createTask(TaskRequest request) throws Exception {
+        MvcResult result = mockMvc.perform(authorized(post("/api/tasks"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request)))
+                .andReturn();
+        assertEquals(201, result.getResponse().getStatus());
+        return read(result, TaskResponse.class);
+    }
+
+    /**
+     * Adds the current user's bearer token to the request.
+     */
+    protected MockHttpServletRequestBuilder authorized(MockHttpServletRequestBuilder request) {
+        return request.header(HttpHeaders.AUTHORIZATION, token);
+    }
+
+    protected String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    protected <T> T read(MvcResult result, Class<T> type) throws Exception {
+        return objectMapper.readValue(result.getResponse().getContentAsString(), type);
+    }
+}
@@ -0,0 +1,43 @@
+package com.treinetic.taskmanager;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every SQL statement Hibernate prepares, per thread.
+ * <p>
+ * Registered through {@code hibernate.session_factory.statement_inspector} in the test profile.
+ * Statements are recorded for the thread that prepares them, so a request run through
+ * {@code MockMvc} on the test thread is not mixed up with scheduled jobs querying the database
+ * at the same time. A statement executed as a JDBC batch is prepared, and counted, once.
+ * </p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * Forgets the statements recorded so far on the current thread.
+     */
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * Returns the statements recorded on the current thread since the last {@link #reset()}.
+     *
+     * @return the statements, in the order they were prepared
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+}
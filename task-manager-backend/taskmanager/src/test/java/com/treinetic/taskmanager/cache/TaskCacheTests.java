@@ -0,0 +1,127 @@
+package com.treinetic.taskmanager.cache;
+
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.event.TaskChangedEvent;
+import com.treinetic.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TaskCacheTests {
+    private TaskCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TaskCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 1_000L);
+        ReflectionTestUtils.setField(cache, "ttl", 600_000L);
+        cache.init();
+    }
+
+    @Test
+    void olderVersionDoesNotReplaceNewerOne() {
+        cache.onTaskChanged(TaskChangedEvent.updated(task(1L, 2L, "Newer")));
+
+        cache.put(task(1L, 1L, "Older"));
+
+        assertEquals("Newer", cache.get(1L).getTitle());
+    }
+
+    @Test
+    void readerThatLoadedATaskBeforeItWasDeletedCannotCacheItAgain() {
+        // A reader misses the cache and reads the row...
+        assertNull(cache.get(1L));
+        TaskResponse loaded = task(1L, 0L, "Deleted meanwhile");
+        // ...the task is deleted and the deletion committed before the reader caches its copy.
+        cache.onTaskChanged(TaskChangedEvent.deleted(7L, 1L));
+        cache.put(loaded);
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void deletionEvictsACachedTask() {
+        cache.put(task(1L, 3L, "Cached"));
+
+        cache.onTaskChanged(TaskChangedEvent.deleted(7L, 1L));
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void deletionOfOneTaskDoesNotAffectOthers() {
+        cache.onTaskChanged(TaskChangedEvent.deleted(7L, 1L));
+
+        cache.put(task(2L, 0L, "Other"));
+
+        assertEquals("Other", cache.get(2L).getTitle());
+    }
+
+    @Test
+    void moreDeletionsThanTheCacheHoldsAreAllRemembered() {
+        for (long id = 1; id <= 3_000; id++) {
+            cache.onTaskChanged(TaskChangedEvent.deleted(7L, id));
+        }
+
+        for (long id = 1; id <= 3_000; id++) {
+            cache.put(task(id, 0L, "Read before the deletion"));
+            assertNull(cache.get(id));
+        }
+    }
+
+    @Test
+    void concurrentReadersNeverResurrectADeletedTask() throws Exception {
+        int tasks = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<?> readers = executor.submit(() -> {
+                start.await();
+                for (long id = 1; id <= tasks; id++) {
+                    cache.put(task(id, 0L, "Read"));
+                }
+                return null;
+            });
+            Future<?> deleter = executor.submit(() -> {
+                start.await();
+                for (long id = 1; id <= tasks; id++) {
+                    cache.onTaskChanged(TaskChangedEvent.deleted(7L, id));
+                }
+                return null;
+            });
+            start.countDown();
+            readers.get();
+            deleter.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Long> resurrected = new ArrayList<>();
+        for (long id = 1; id <= tasks; id++) {
+            if (cache.get(id) != null) {
+                resurrected.add(id);
+            }
+        }
+        assertEquals(List.of(), resurrected);
+    }
+
+    private static TaskResponse task(Long id, Long version, String title) {
+        return TaskResponse.builder()
+                .id(id)
+                .version(version)
+                .title(title)
+                .status(TaskStatus.TO_DO)
+                .userId(7L)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.treinetic.taskmanager.cache;
+
+import com.treinetic.taskmanager.event.TaskSummaryChangedEvent;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.TaskSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class TaskSummaryCacheTests {
+    private static final long USER = 7L;
+
+    private TaskSummaryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TaskSummaryCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 1_000L);
+        ReflectionTestUtils.setField(cache, "ttl", 600_000L);
+        cache.init();
+    }
+
+    @Test
+    void seedCopiesTheStoredCounts() {
+        TaskSummaryCache.Counters counters = cache.seed(new TaskSummary(USER, 3, 2, 1, 5));
+
+        assertEquals(3, counters.count(TaskStatus.TO_DO));
+        assertEquals(2, counters.count(TaskStatus.IN_PROGRESS));
+        assertEquals(1, counters.count(TaskStatus.DONE));
+        assertEquals(5, counters.getVersion());
+        assertSame(counters, cache.get(USER));
+    }
+
+    @Test
+    void seedKeepsCountersAnotherRequestSeededFirst() {
+        TaskSummaryCache.Counters first = cache.seed(new TaskSummary(USER, 3, 0, 0, 5));
+
+        assertSame(first, cache.seed(new TaskSummary(USER, 9, 0, 0, 6)));
+        assertEquals(3, cache.get(USER).count(TaskStatus.TO_DO));
+    }
+
+    @Test
+    void changesAfterTheSeedAreAppliedAndOlderOnesSkipped() {
+        cache.seed(new TaskSummary(USER, 3, 0, 0, 5));
+
+        // Already included in the seed.
+        cache.onSummaryChanged(new TaskSummaryChangedEvent(USER, 4, 1, 0, 0));
+        cache.onSummaryChanged(new TaskSummaryChangedEvent(USER, 5, 1, 0, 0));
+        // Applied, in whatever order they arrive.
+        cache.onSummaryChanged(new TaskSummaryChangedEvent(USER, 7, -1, 0, 1));
+        cache.onSummaryChanged(new TaskSummaryChangedEvent(USER, 6, -1, 1, 0));
+
+        TaskSummaryCache.Counters counters = cache.get(USER);
+        assertEquals(1, counters.count(TaskStatus.TO_DO));
+        assertEquals(1, counters.count(TaskStatus.IN_PROGRESS));
+        assertEquals(1, counters.count(TaskStatus.DONE));
+        assertEquals(7, counters.getVersion());
+    }
+
+    @Test
+    void changeForAnUncachedUserIsDropped() {
+        cache.onSummaryChanged(new TaskSummaryChangedEvent(USER, 6, 1, 0, 0));
+
+        assertNull(cache.get(USER));
+        // Seeding afterwards from a summary read before that change misses it.
+        assertEquals(5, cache.seed(new TaskSummary(USER, 3, 0, 0, 5)).getVersion());
+    }
+
+    @Test
+    void evictingCountersLeavesThoseThatReplacedThem() {
+        TaskSummaryCache.Counters stale = cache.seed(new TaskSummary(USER, 3, 0, 0, 5));
+        cache.evict(USER);
+        TaskSummaryCache.Counters fresh = cache.seed(new TaskSummary(USER, 4, 0, 0, 6));
+
+        cache.evict(USER, stale);
+        assertSame(fresh, cache.get(USER));
+
+        cache.evict(USER, fresh);
+        assertNull(cache.get(USER));
+    }
+
+    @Test
+    void concurrentChangesAreAllCounted() throws Exception {
+        cache.seed(new TaskSummary(USER, 0, 0, 0, 0));
+        int threads = 4;
+        int changes = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long first = (long) t * changes + 1;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (long version = first; version < first + changes; version++) {
+                        cache.onSummaryChanged(new TaskSummaryChangedEvent(USER, version, 1, 0, 0));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals((long) threads * changes, cache.get(USER).count(TaskStatus.TO_DO));
+        assertEquals((long) threads * changes, cache.get(USER).getVersion());
+    }
+}
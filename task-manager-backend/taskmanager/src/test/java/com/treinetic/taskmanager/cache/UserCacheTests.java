@@ -0,0 +1,133 @@
+package com.treinetic.taskmanager.cache;
+
+import com.treinetic.taskmanager.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UserCacheTests {
+    private static final String USERNAME = "alice";
+
+    private UserCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 1_000L);
+        ReflectionTestUtils.setField(cache, "ttl", 600_000L);
+        cache.init();
+    }
+
+    @Test
+    void loadedUserIsServedFromTheCache() {
+        User user = user("old-hash");
+        AtomicInteger loads = new AtomicInteger();
+
+        assertSame(user, cache.get(USERNAME, name -> {
+            loads.incrementAndGet();
+            return user;
+        }));
+        assertSame(user, cache.get(USERNAME, name -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void unknownUserIsNotCached() {
+        assertNull(cache.get(USERNAME, name -> null));
+
+        User user = user("hash");
+        assertSame(user, cache.get(USERNAME, name -> user));
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get(USERNAME, name -> {
+            throw new IllegalStateException("Database unavailable");
+        }));
+
+        User user = user("hash");
+        assertSame(user, cache.get(USERNAME, name -> user));
+    }
+
+    @Test
+    void userEvictedWhileLoadingIsNotCachedByTheLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch passwordChanged = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The lookup reads the old hash...
+            Future<User> lookup = executor.submit(() -> cache.get(USERNAME, name -> {
+                loading.countDown();
+                await(passwordChanged);
+                return user("old-hash");
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            // ...the password change commits and evicts the user before the lookup finishes.
+            cache.evict(USERNAME);
+            passwordChanged.countDown();
+            assertEquals("old-hash", lookup.get(5, TimeUnit.SECONDS).getPassword());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals("new-hash", cache.get(USERNAME, name -> user("new-hash")).getPassword());
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        User user = user("hash");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<User> first = executor.submit(() -> cache.get(USERNAME, name -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return user;
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<User> second = executor.submit(() -> cache.get(USERNAME, name -> {
+                loads.incrementAndGet();
+                return user("other-hash");
+            }));
+            release.countDown();
+
+            assertSame(user, first.get(5, TimeUnit.SECONDS));
+            assertSame(user, second.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+    }
+
+    private static User user(String password) {
+        return User.builder().id(1L).username(USERNAME).password(password).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.treinetic.taskmanager.controller;
+
+import com.treinetic.taskmanager.ApiTestSupport;
+import com.treinetic.taskmanager.SqlStatementCounter;
+import com.treinetic.taskmanager.dto.AuthRequest;
+import com.treinetic.taskmanager.dto.TaskBatchOperation;
+import com.treinetic.taskmanager.dto.TaskBatchRequest;
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Fails the build when an endpoint starts sending more SQL statements than it does today.
+ * <p>
+ * Each test calls one {@link TaskController} or {@link AuthController} operation on a fresh user
+ * and asserts how many statements the request prepared, as counted by
+ * {@link SqlStatementCounter}. Requests that return several tasks are made with more than one
+ * task, so that a query per task (N+1) shows up as a budget overrun.
+ * </p>
+ *
+ * <p>
+ * When an endpoint legitimately needs another statement, raise its budget in the same change
+ * and say why; when it needs fewer, lower the budget so the improvement is kept.
+ * </p>
+ *
+ * <p>
+ * Every write includes two statements that advance and read the user's change watermark. The
+ * upsert locks the watermark row until the write commits, which deliberately serializes writes
+ * to one user's tasks (see {@code TaskService.nextChangeVersion}).
+ * </p>
+ */
+class SqlStatementBudgetTests extends ApiTestSupport {
+    private static final int TASKS = 5;
+
+    @BeforeEach
+    void cacheUser() throws Exception {
+        // Budgets are for a returning user, whose account is already in the user cache.
+        mockMvc.perform(authorized(get("/api/tasks/changes")).param("since", "0"));
+    }
+
+    @Test
+    void register() throws Exception {
+        // The user and their empty task summary.
+        assertBudget(2, post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new AuthRequest(username + "-new", "secret"))));
+    }
+
+    @Test
+    void authenticate() throws Exception {
+        assertBudget(1, post("/api/auth/authenticate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new AuthRequest(username, "secret"))));
+    }
+
+    @Test
+    void getAllTasks() throws Exception {
+        createTasks(TASKS);
+        assertBudget(2, authorized(get("/api/tasks")));
+    }
+
+    @Test
+    void getAllTasksNotModified() throws Exception {
+        createTasks(TASKS);
+        String etag = mockMvc.perform(authorized(get("/api/tasks"))).andReturn()
+                .getResponse().getHeader(HttpHeaders.ETAG);
+        assertBudget(1, authorized(get("/api/tasks")).header(HttpHeaders.IF_NONE_MATCH, etag));
+    }
+
+    @Test
+    void searchTasks() throws Exception {
+        createTasks(TASKS);
+        assertBudget(2, authorized(get("/api/tasks/search")).param("q", "report"));
+    }
+
+    @Test
+    void exportTasks() throws Exception {
+        createTasks(TASKS);
+        assertBudget(2, authorized(get("/api/tasks/export")));
+    }
+
+    @Test
+    void getSummary() throws Exception {
+        createTasks(TASKS);
+        // On a cache miss: the stored summary, then its version again once the counters are seeded.
+        assertBudget(2, authorized(get("/api/tasks/summary")));
+    }
+
+    @Test
+    void getChanges() throws Exception {
+        createTasks(TASKS);
+        assertBudget(2, authorized(get("/api/tasks/changes")));
+    }
+
+    @Test
+    void streamTaskChanges() throws Exception {
+        assertBudget(0, authorized(get("/api/tasks/stream")));
+    }
+
+    @Test
+    void getTaskById() throws Exception {
+        Long id = createTasks(1).get(0).getId();
+        assertBudget(0, authorized(get("/api/tasks/{id}", id)));
+    }
+
+    @Test
+    void createTask() throws Exception {
+        assertBudget(4, authorized(post("/api/tasks"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(task(1))));
+    }
+
+    @Test
+    void applyBatch() throws Exception {
+        List<TaskResponse> tasks = createTasks(TASKS);
+        List<TaskBatchOperation> operations = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            operations.add(TaskBatchOperation.builder().type(TaskBatchOperation.Type.CREATE).task(task(i)).build());
+        }
+        operations.add(TaskBatchOperation.builder()
+                .type(TaskBatchOperation.Type.UPDATE_STATUS).id(tasks.get(0).getId()).status(TaskStatus.DONE).build());
+        operations.add(TaskBatchOperation.builder()
+                .type(TaskBatchOperation.Type.UPDATE_STATUS).id(tasks.get(1).getId()).status(TaskStatus.DONE).build());
+        operations.add(TaskBatchOperation.builder()
+                .type(TaskBatchOperation.Type.DELETE).id(tasks.get(2).getId()).build());
+        operations.add(TaskBatchOperation.builder()
+                .type(TaskBatchOperation.Type.DELETE).id(tasks.get(3).getId()).build());
+
+        assertBudget(9, authorized(post("/api/tasks/batch"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(new TaskBatchRequest(operations))));
+    }
+
+    @Test
+    void importTasks() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < TASKS; i++) {
+            body.append(json(task(i))).append('\n');
+        }
+        assertBudget(4, authorized(post("/api/tasks/import"))
+                .contentType("application/x-ndjson")
+                .content(body.toString()));
+    }
+
+    @Test
+    void updateTask() throws Exception {
+        Long id = createTasks(1).get(0).getId();
+        // Watermark upsert and read, status read, update, summary adjustment, read of the result.
+        assertBudget(6, authorized(put("/api/tasks/{id}", id))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(TaskRequest.builder().title("Renamed").status(TaskStatus.IN_PROGRESS).build())));
+    }
+
+    @Test
+    void deleteTask() throws Exception {
+        Long id = createTasks(1).get(0).getId();
+        // Watermark upsert and read, status read, delete, tombstone, summary adjustment.
+        assertBudget(6, authorized(delete("/api/tasks/{id}", id)));
+    }
+
+    /**
+     * Performs the request and asserts that it succeeded within {@code budget} statements.
+     */
+    private void assertBudget(int budget, MockHttpServletRequestBuilder request) throws Exception {
+        SqlStatementCounter.reset();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        List<String> statements = SqlStatementCounter.statements();
+
+        int status = result.getResponse().getStatus();
+        assertTrue(status < 400, () -> "Request failed with status " + status);
+        assertTrue(statements.size() <= budget, () -> "Expected at most " + budget + " SQL statements but "
+                + statements.size() + " were sent:\n" + String.join("\n", statements));
+        assertEquals(budget, statements.size(), () -> "Only " + statements.size() + " SQL statements were sent;"
+                + " lower the budget from " + budget + ":\n" + String.join("\n", statements));
+    }
+
+    private List<TaskResponse> createTasks(int count) throws Exception {
+        List<TaskResponse> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(createTask(task(i)));
+        }
+        return tasks;
+    }
+
+    private static TaskRequest task(int i) {
+        return TaskRequest.builder()
+                .title("Prepare the quarterly report #" + i)
+                .description("Collect the numbers from every team")
+                .status(TaskStatus.values()[i % TaskStatus.values().length])
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.treinetic.taskmanager.controller;
+
+import com.treinetic.taskmanager.ApiTestSupport;
+import com.treinetic.taskmanager.dto.TaskBatchOperation;
+import com.treinetic.taskmanager.dto.TaskBatchRequest;
+import com.treinetic.taskmanager.dto.TaskBatchResponse;
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.event.TaskChangedEvent;
+import com.treinetic.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Checks the change events {@code POST /api/tasks/batch} publishes for the tasks it changes.
+ */
+@RecordApplicationEvents
+class TaskBatchTests extends ApiTestSupport {
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void taskUpdatedThenDeletedInOneBatchIsOnlyReportedAsDeleted() throws Exception {
+        Long deleted = createTask(request("Deleted")).getId();
+        Long updated = createTask(request("Updated")).getId();
+        events.clear();
+
+        TaskBatchResponse response = batch(
+                updateStatus(deleted, TaskStatus.IN_PROGRESS),
+                updateStatus(updated, TaskStatus.IN_PROGRESS),
+                TaskBatchOperation.builder().type(TaskBatchOperation.Type.DELETE).id(deleted).build(),
+                updateStatus(updated, TaskStatus.DONE));
+
+        assertEquals(4, response.getSucceeded());
+        List<TaskChangedEvent> published = events.stream(TaskChangedEvent.class).toList();
+        assertEquals(2, published.size());
+        assertEquals(TaskChangedEvent.Type.DELETED, published.get(0).type());
+        assertEquals(deleted, published.get(0).taskId());
+        assertEquals(TaskChangedEvent.Type.UPDATED, published.get(1).type());
+        assertEquals(updated, published.get(1).taskId());
+        assertEquals(TaskStatus.DONE, published.get(1).task().getStatus());
+    }
+
+    @Test
+    void everyCreatedTaskIsReported() throws Exception {
+        events.clear();
+
+        batch(create("First"), create("Second"));
+
+        List<TaskChangedEvent> published = events.stream(TaskChangedEvent.class).toList();
+        assertEquals(2, published.size());
+        published.forEach(event -> assertEquals(TaskChangedEvent.Type.CREATED, event.type()));
+    }
+
+    private TaskBatchResponse batch(TaskBatchOperation... operations) throws Exception {
+        MvcResult result = mockMvc.perform(authorized(post("/api/tasks/batch"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new TaskBatchRequest(List.of(operations)))))
+                .andReturn();
+        assertEquals(200, result.getResponse().getStatus());
+        return read(result, TaskBatchResponse.class);
+    }
+
+    private static TaskBatchOperation updateStatus(Long id, TaskStatus status) {
+        return TaskBatchOperation.builder().type(TaskBatchOperation.Type.UPDATE_STATUS).id(id).status(status).build();
+    }
+
+    private static TaskBatchOperation create(String title) {
+        return TaskBatchOperation.builder().type(TaskBatchOperation.Type.CREATE).task(request(title)).build();
+    }
+
+    private static TaskRequest request(String title) {
+        return TaskRequest.builder().title(title).status(TaskStatus.TO_DO).build();
+    }
+}
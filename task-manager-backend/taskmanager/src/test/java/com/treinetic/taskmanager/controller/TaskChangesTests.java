@@ -0,0 +1,197 @@
+package com.treinetic.taskmanager.controller;
+
+import com.treinetic.taskmanager.ApiTestSupport;
+import com.treinetic.taskmanager.dto.TaskBatchOperation;
+import com.treinetic.taskmanager.dto.TaskBatchRequest;
+import com.treinetic.taskmanager.dto.TaskChangesResponse;
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.service.TaskTombstoneCompactor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Checks the sync protocol of {@code GET /api/tasks/changes}: paging by cursor, deletions
+ * reported through tombstones, and the reset once tombstones have been compacted away.
+ */
+class TaskChangesTests extends ApiTestSupport {
+
+    @Autowired
+    private TaskTombstoneCompactor compactor;
+
+    @Test
+    void changesArePagedOldestFirstUntilTheCursorCatchesUp() throws Exception {
+        List<Long> created = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            created.add(createTask("Task " + i).getId());
+        }
+
+        List<Long> synced = new ArrayList<>();
+        List<Long> cursors = new ArrayList<>();
+        TaskChangesResponse page = changes(0L, 2);
+        synced.addAll(ids(page));
+        cursors.add(page.getCursor());
+        while (page.isHasMore()) {
+            assertEquals(2, page.getChanged().size());
+            page = changes(page.getCursor(), 2);
+            synced.addAll(ids(page));
+            cursors.add(page.getCursor());
+        }
+
+        assertEquals(created, synced);
+        assertEquals(3, cursors.size());
+        assertEquals(cursors.stream().sorted().distinct().toList(), cursors);
+        TaskChangesResponse caughtUp = changes(page.getCursor(), 2);
+        assertEquals(List.of(), caughtUp.getChanged());
+        assertEquals(page.getCursor(), caughtUp.getCursor());
+        assertFalse(caughtUp.isHasMore());
+    }
+
+    @Test
+    void versionWithMoreChangesThanTheLimitIsReturnedWhole() throws Exception {
+        TaskChangesResponse before = changes(null, null);
+        mockMvc.perform(authorized(post("/api/tasks/batch"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new TaskBatchRequest(IntStream.rangeClosed(1, 3)
+                                .mapToObj(i -> TaskBatchOperation.builder()
+                                        .type(TaskBatchOperation.Type.CREATE)
+                                        .task(request("Batched " + i))
+                                        .build())
+                                .toList()))))
+                .andReturn();
+        createTask("After the batch");
+
+        TaskChangesResponse page = changes(before.getCursor(), 2);
+
+        assertEquals(List.of("Batched 1", "Batched 2", "Batched 3"),
+                page.getChanged().stream().map(TaskResponse::getTitle).sorted().toList());
+        assertTrue(page.isHasMore());
+        assertEquals(List.of("After the batch"),
+                changes(page.getCursor(), 2).getChanged().stream().map(TaskResponse::getTitle).toList());
+    }
+
+    @Test
+    void updatesAndDeletionsSinceTheCursorAreReported() throws Exception {
+        TaskResponse kept = createTask("Kept");
+        TaskResponse removed = createTask("Removed");
+        long cursor = changes(null, null).getCursor();
+
+        mockMvc.perform(authorized(put("/api/tasks/{id}", kept.getId()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(request("Renamed"))))
+                .andReturn();
+        assertEquals(204, mockMvc.perform(authorized(delete("/api/tasks/{id}", removed.getId())))
+                .andReturn().getResponse().getStatus());
+
+        TaskChangesResponse changes = changes(cursor, null);
+        assertEquals(List.of("Renamed"), changes.getChanged().stream().map(TaskResponse::getTitle).toList());
+        assertEquals(List.of(removed.getId()), changes.getDeleted());
+        assertFalse(changes.isResetRequired());
+
+        // A full sync lists the remaining tasks and has nothing to delete.
+        TaskChangesResponse full = changes(null, null);
+        assertEquals(List.of(kept.getId()), ids(full));
+        assertEquals(List.of(), full.getDeleted());
+        assertEquals(changes.getCursor(), full.getCursor());
+    }
+
+    @Test
+    void cursorOlderThanCompactedTombstonesMustSyncFromScratch() throws Exception {
+        TaskResponse removed = createTask("Removed");
+        long staleCursor = changes(null, null).getCursor();
+        mockMvc.perform(authorized(delete("/api/tasks/{id}", removed.getId()))).andReturn();
+        TaskResponse kept = createTask("Kept");
+        long currentCursor = changes(null, null).getCursor();
+
+        compactAll();
+
+        TaskChangesResponse reset = changes(staleCursor, null);
+        assertTrue(reset.isResetRequired());
+        assertEquals(List.of(), reset.getChanged());
+        assertEquals(List.of(), reset.getDeleted());
+        assertEquals(currentCursor, reset.getCursor());
+
+        // A cursor at or after the purged deletion still syncs normally.
+        TaskChangesResponse current = changes(currentCursor, null);
+        assertFalse(current.isResetRequired());
+        assertEquals(List.of(), current.getChanged());
+        TaskChangesResponse full = changes(null, null);
+        assertFalse(full.isResetRequired());
+        assertEquals(List.of(kept.getId()), ids(full));
+    }
+
+    @Test
+    void cursorAheadOfTheWatermarkMustSyncFromScratch() throws Exception {
+        createTask("First");
+        long cursor = changes(null, null).getCursor();
+
+        TaskChangesResponse reset = changes(cursor + 1, null);
+
+        assertTrue(reset.isResetRequired());
+        assertEquals(cursor, reset.getCursor());
+    }
+
+    @Test
+    void negativeCursorOrLimitIsRejected() throws Exception {
+        assertEquals(400, mockMvc.perform(authorized(get("/api/tasks/changes")).param("since", "-1"))
+                .andReturn().getResponse().getStatus());
+        assertEquals(400, mockMvc.perform(authorized(get("/api/tasks/changes")).param("limit", "0"))
+                .andReturn().getResponse().getStatus());
+    }
+
+    /**
+     * Compacts every tombstone, as if all of them had outlived the retention period.
+     */
+    private void compactAll() {
+        Duration retention = (Duration) ReflectionTestUtils.getField(compactor, "retention");
+        ReflectionTestUtils.setField(compactor, "retention", Duration.ofSeconds(-1));
+        try {
+            compactor.compact();
+        } finally {
+            ReflectionTestUtils.setField(compactor, "retention", retention);
+        }
+    }
+
+    private TaskChangesResponse changes(Long since, Integer limit) throws Exception {
+        MockHttpServletRequestBuilder request = authorized(get("/api/tasks/changes"));
+        if (since != null) {
+            request.param("since", since.toString());
+        }
+        if (limit != null) {
+            request.param("limit", limit.toString());
+        }
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertEquals(200, result.getResponse().getStatus());
+        return read(result, TaskChangesResponse.class);
+    }
+
+    private static List<Long> ids(TaskChangesResponse changes) {
+        return changes.getChanged().stream().map(TaskResponse::getId).toList();
+    }
+
+    private TaskResponse createTask(String title) throws Exception {
+        return createTask(request(title));
+    }
+
+    private static TaskRequest request(String title) {
+        return TaskRequest.builder().title(title).status(TaskStatus.TO_DO).build();
+    }
+}
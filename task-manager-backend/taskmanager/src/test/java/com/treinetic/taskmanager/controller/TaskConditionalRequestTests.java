@@ -0,0 +1,202 @@
+package com.treinetic.taskmanager.controller;
+
+import com.treinetic.taskmanager.ApiTestSupport;
+import com.treinetic.taskmanager.SqlStatementCounter;
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Checks the conditional request handling of the task endpoints: {@code If-None-Match} on reads
+ * and {@code If-Match} on updates.
+ */
+class TaskConditionalRequestTests extends ApiTestSupport {
+
+    @Test
+    void listingWithMatchingIfNoneMatchIsNotModifiedWithoutQueryingTasks() throws Exception {
+        createTask("First");
+        createTask("Second");
+        SqlStatementCounter.reset();
+        MvcResult first = mockMvc.perform(authorized(get("/api/tasks"))).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertTrue(SqlStatementCounter.statements().stream().anyMatch(TaskConditionalRequestTests::queriesTasks));
+
+        SqlStatementCounter.reset();
+        MvcResult revalidated = mockMvc.perform(authorized(get("/api/tasks"))
+                        .param("status", "TO_DO")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn();
+
+        assertEquals(304, revalidated.getResponse().getStatus());
+        assertEquals("", revalidated.getResponse().getContentAsString());
+        assertEquals(etag, revalidated.getResponse().getHeader(HttpHeaders.ETAG));
+        assertNoTaskQuery(SqlStatementCounter.statements());
+    }
+
+    @Test
+    void listingIsSentAgainOnceATaskChanged() throws Exception {
+        createTask("First");
+        String etag = mockMvc.perform(authorized(get("/api/tasks"))).andReturn()
+                .getResponse().getHeader(HttpHeaders.ETAG);
+
+        createTask("Second");
+        MvcResult result = mockMvc.perform(authorized(get("/api/tasks")).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertNotEquals(etag, result.getResponse().getHeader(HttpHeaders.ETAG));
+        assertTrue(result.getResponse().getContentAsString().contains("Second"));
+    }
+
+    @Test
+    void searchAndExportWithMatchingIfNoneMatchAreNotModifiedWithoutQueryingTasks() throws Exception {
+        createTask("Quarterly report");
+        String etag = mockMvc.perform(authorized(get("/api/tasks"))).andReturn()
+                .getResponse().getHeader(HttpHeaders.ETAG);
+
+        for (MockHttpServletRequestBuilder request : List.of(
+                get("/api/tasks/search").param("q", "report"),
+                get("/api/tasks/export").param("format", "csv"))) {
+            SqlStatementCounter.reset();
+            MvcResult result = mockMvc.perform(authorized(request).header(HttpHeaders.IF_NONE_MATCH, etag)).andReturn();
+
+            assertEquals(304, result.getResponse().getStatus());
+            assertEquals("", result.getResponse().getContentAsString());
+            assertNoTaskQuery(SqlStatementCounter.statements());
+        }
+    }
+
+    @Test
+    void taskWithMatchingIfNoneMatchIsNotModified() throws Exception {
+        TaskResponse task = createTask("First");
+        String etag = mockMvc.perform(authorized(get("/api/tasks/{id}", task.getId()))).andReturn()
+                .getResponse().getHeader(HttpHeaders.ETAG);
+        assertEquals("\"" + task.getId() + "-" + task.getVersion() + "\"", etag);
+
+        MvcResult result = mockMvc.perform(authorized(get("/api/tasks/{id}", task.getId()))
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andReturn();
+
+        assertEquals(304, result.getResponse().getStatus());
+        assertEquals("", result.getResponse().getContentAsString());
+    }
+
+    @Test
+    void updateWithCurrentIfMatchIsApplied() throws Exception {
+        TaskResponse task = createTask("First");
+
+        MvcResult result = mockMvc.perform(update(task.getId(), "Renamed")
+                        .header(HttpHeaders.IF_MATCH, TaskETags.of(task)))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        TaskResponse updated = read(result, TaskResponse.class);
+        assertEquals(task.getVersion() + 1, updated.getVersion());
+        assertEquals(TaskETags.of(updated), result.getResponse().getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void updateWithStaleIfMatchIsRejectedAndNotApplied() throws Exception {
+        TaskResponse task = createTask("First");
+        String staleTag = TaskETags.of(task);
+        mockMvc.perform(update(task.getId(), "Changed by someone else")).andReturn();
+
+        MvcResult result = mockMvc.perform(update(task.getId(), "Lost update")
+                        .header(HttpHeaders.IF_MATCH, staleTag))
+                .andReturn();
+
+        assertEquals(412, result.getResponse().getStatus());
+        TaskResponse current = getTask(task.getId());
+        assertEquals("Changed by someone else", current.getTitle());
+        assertEquals(task.getVersion() + 1, current.getVersion());
+    }
+
+    @Test
+    void updateIsAppliedWhenAnyListedTagIsCurrent() throws Exception {
+        TaskResponse task = createTask("First");
+        String staleTag = TaskETags.of(task);
+        TaskResponse changed = read(mockMvc.perform(update(task.getId(), "Second")).andReturn(), TaskResponse.class);
+
+        MvcResult result = mockMvc.perform(update(task.getId(), "Third")
+                        .header(HttpHeaders.IF_MATCH, staleTag + ", " + TaskETags.of(changed)))
+                .andReturn();
+
+        assertEquals(200, result.getResponse().getStatus());
+        assertEquals("Third", getTask(task.getId()).getTitle());
+    }
+
+    @Test
+    void updateWithoutIfMatchOrWithWildcardIsUnconditional() throws Exception {
+        TaskResponse task = createTask("First");
+        mockMvc.perform(update(task.getId(), "Second")).andReturn();
+
+        MvcResult unconditional = mockMvc.perform(update(task.getId(), "Third")).andReturn();
+        MvcResult wildcard = mockMvc.perform(update(task.getId(), "Fourth").header(HttpHeaders.IF_MATCH, "*"))
+                .andReturn();
+
+        assertEquals(200, unconditional.getResponse().getStatus());
+        assertEquals(200, wildcard.getResponse().getStatus());
+        assertEquals("Fourth", getTask(task.getId()).getTitle());
+    }
+
+    @Test
+    void updateWithWeakOrOtherTasksTagIsRejectedAndNotApplied() throws Exception {
+        TaskResponse task = createTask("First");
+        TaskResponse other = createTask("Other");
+
+        MvcResult weak = mockMvc.perform(update(task.getId(), "Weak")
+                        .header(HttpHeaders.IF_MATCH, "W/" + TaskETags.of(task)))
+                .andReturn();
+        MvcResult otherTask = mockMvc.perform(update(task.getId(), "Other tag")
+                        .header(HttpHeaders.IF_MATCH, TaskETags.of(other)))
+                .andReturn();
+
+        assertEquals(412, weak.getResponse().getStatus());
+        assertEquals(412, otherTask.getResponse().getStatus());
+        TaskResponse current = getTask(task.getId());
+        assertEquals("First", current.getTitle());
+        assertEquals(task.getVersion(), current.getVersion());
+    }
+
+    /**
+     * Asserts that only the watermark was read, not the {@code task} table itself.
+     */
+    private static void assertNoTaskQuery(List<String> statements) {
+        assertTrue(statements.stream().noneMatch(TaskConditionalRequestTests::queriesTasks),
+                () -> "Expected no query on the task table but got:\n" + String.join("\n", statements));
+    }
+
+    private static boolean queriesTasks(String sql) {
+        return sql.toLowerCase(Locale.ROOT).matches("(?s).*\\bfrom task\\b(?!_).*");
+    }
+
+    private TaskResponse createTask(String title) throws Exception {
+        return createTask(TaskRequest.builder().title(title).status(TaskStatus.TO_DO).build());
+    }
+
+    private MockHttpServletRequestBuilder update(Long id, String title) throws Exception {
+        return authorized(put("/api/tasks/{id}", id))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(TaskRequest.builder().title(title).status(TaskStatus.IN_PROGRESS).build()));
+    }
+
+    private TaskResponse getTask(Long id) throws Exception {
+        return read(mockMvc.perform(authorized(get("/api/tasks/{id}", id))).andReturn(), TaskResponse.class);
+    }
+}
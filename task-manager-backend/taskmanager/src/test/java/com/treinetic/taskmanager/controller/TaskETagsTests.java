@@ -0,0 +1,55 @@
+package com.treinetic.taskmanager.controller;
+
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TaskETagsTests {
+
+    @Test
+    void missingOrWildcardIfMatchIsUnconditional() {
+        assertNull(TaskETags.expectedVersions(null, 7L));
+        assertNull(TaskETags.expectedVersions("", 7L));
+        assertNull(TaskETags.expectedVersions("  ", 7L));
+        assertNull(TaskETags.expectedVersions("*", 7L));
+        assertNull(TaskETags.expectedVersions(" * ", 7L));
+    }
+
+    @Test
+    void strongTagOfTheTaskGivesItsVersion() {
+        assertEquals(Set.of(3L), TaskETags.expectedVersions("\"7-3\"", 7L));
+        assertEquals(Set.of(3L),
+                TaskETags.expectedVersions(TaskETags.of(TaskResponse.builder().id(7L).version(3L).build()), 7L));
+    }
+
+    @Test
+    void everyStrongTagOfTheTaskInAListIsAccepted() {
+        assertEquals(Set.of(4L, 5L), TaskETags.expectedVersions("\"8-1\", W/\"7-2\", \"7-4\", \"7-5\"", 7L));
+    }
+
+    @Test
+    void weakTagsAreIgnored() {
+        assertThrows(PreconditionFailedException.class, () -> TaskETags.expectedVersions("W/\"7-3\"", 7L));
+    }
+
+    @Test
+    void tagOfAnotherTaskDoesNotMatch() {
+        assertThrows(PreconditionFailedException.class, () -> TaskETags.expectedVersions("\"8-3\"", 7L));
+        // The task ID is matched as a whole, not as a prefix.
+        assertThrows(PreconditionFailedException.class, () -> TaskETags.expectedVersions("\"77-3\"", 7L));
+    }
+
+    @Test
+    void collectionOrMalformedTagsDoNotMatch() {
+        assertThrows(PreconditionFailedException.class, () -> TaskETags.expectedVersions("\"c7-3\"", 7L));
+        assertThrows(PreconditionFailedException.class, () -> TaskETags.expectedVersions("\"7-x\"", 7L));
+        assertThrows(PreconditionFailedException.class, () -> TaskETags.expectedVersions("7-3", 7L));
+        assertThrows(PreconditionFailedException.class, () -> TaskETags.expectedVersions("\"", 7L));
+    }
+}
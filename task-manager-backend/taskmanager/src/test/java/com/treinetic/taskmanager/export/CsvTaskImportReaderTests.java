@@ -0,0 +1,125 @@
+package com.treinetic.taskmanager.export;
+
+import com.treinetic.taskmanager.exception.BadRequestException;
+import com.treinetic.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvTaskImportReaderTests {
+
+    @Test
+    void quotedFieldMayContainCommasNewlinesAndDoubledQuotes() throws IOException {
+        List<TaskImportRow> rows = readAll("title,description,status\n"
+                + "\"Plan, then \"\"ship\"\"\",\"first line\nsecond line\",TO_DO\n");
+
+        assertEquals(1, rows.size());
+        TaskImportRow row = rows.get(0);
+        assertNull(row.error());
+        assertEquals("Plan, then \"ship\"", row.task().getTitle());
+        assertEquals("first line\nsecond line", row.task().getDescription());
+        assertEquals(TaskStatus.TO_DO, row.task().getStatus());
+    }
+
+    @Test
+    void rowsMayEndWithCrlfOrLf() throws IOException {
+        List<TaskImportRow> rows = readAll("title,status\r\nFirst,TO_DO\r\nSecond,done\nThird,IN_PROGRESS");
+
+        assertEquals(List.of("First", "Second", "Third"), rows.stream().map(row -> row.task().getTitle()).toList());
+        assertEquals(List.of(2L, 3L, 4L), rows.stream().map(TaskImportRow::line).toList());
+        assertEquals(TaskStatus.DONE, rows.get(1).task().getStatus());
+    }
+
+    @Test
+    void byteOrderMarkBeforeTheHeaderIsIgnored() throws IOException {
+        List<TaskImportRow> rows = readAll("﻿title,status\nFirst,TO_DO\n");
+
+        assertEquals(1, rows.size());
+        assertEquals("First", rows.get(0).task().getTitle());
+    }
+
+    @Test
+    void columnsAreFoundByNameAndOthersIgnored() throws IOException {
+        List<TaskImportRow> rows = readAll("id,Status,createdAt,TITLE\n7,TO_DO,2024-01-01,First\n8,DONE,,\n");
+
+        assertEquals("First", rows.get(0).task().getTitle());
+        assertNull(rows.get(0).task().getDescription());
+        // Empty fields are missing values; validation rejects the missing title later.
+        assertNull(rows.get(1).task().getTitle());
+        assertEquals(TaskStatus.DONE, rows.get(1).task().getStatus());
+    }
+
+    @Test
+    void headerWithoutTitleOrStatusIsRejected() {
+        assertThrows(BadRequestException.class, () -> readAll("title,description\nFirst,Some text\n"));
+        assertThrows(BadRequestException.class, () -> readAll(""));
+    }
+
+    @Test
+    void overLongRowIsReportedByLineAndReadingResumes() throws IOException {
+        String longTitle = "x".repeat(TaskImportReader.MAX_ROW_LENGTH + 1);
+        List<TaskImportRow> rows = readAll("title,status\n" + longTitle + ",TO_DO\nAfter,TO_DO\n");
+
+        assertEquals(2, rows.size());
+        assertEquals(2L, rows.get(0).line());
+        assertNull(rows.get(0).task());
+        assertEquals("Row is longer than " + TaskImportReader.MAX_ROW_LENGTH + " characters", rows.get(0).error());
+        assertEquals(3L, rows.get(1).line());
+        assertEquals("After", rows.get(1).task().getTitle());
+    }
+
+    @Test
+    void wrongColumnCountAndUnknownStatusAreReportedByLine() throws IOException {
+        List<TaskImportRow> rows = readAll("title,status\nFirst\nSecond,TO_DO,extra\nThird,SOMEDAY\nFourth,TO_DO\n");
+
+        assertEquals("Expected 2 columns but found 1", rows.get(0).error());
+        assertEquals(2L, rows.get(0).line());
+        assertEquals("Expected 2 columns but found 3", rows.get(1).error());
+        assertEquals(3L, rows.get(1).line());
+        assertEquals("Unknown status: SOMEDAY", rows.get(2).error());
+        assertEquals(4L, rows.get(2).line());
+        assertEquals("Fourth", rows.get(3).task().getTitle());
+    }
+
+    @Test
+    void unterminatedQuoteRunsToTheEndOfTheInput() throws IOException {
+        List<TaskImportRow> rows = readAll("title,status\nFirst,TO_DO\n\"Second,TO_DO\nThird,TO_DO\n");
+
+        assertEquals(2, rows.size());
+        assertEquals("First", rows.get(0).task().getTitle());
+        assertEquals(3L, rows.get(1).line());
+        assertEquals("Expected 2 columns but found 1", rows.get(1).error());
+    }
+
+    @Test
+    void lineNumbersCountTheLinesOfMultiLineFieldsAndBlankLines() throws IOException {
+        List<TaskImportRow> rows = readAll("title,description,status\r\n"
+                + "First,\"one\r\ntwo\r\nthree\",TO_DO\r\n"
+                + "\r\n"
+                + "Second,,SOMEDAY\r\n"
+                + "Third,\"a\nb\",TO_DO,extra\n");
+
+        assertEquals(List.of(2L, 6L, 7L), rows.stream().map(TaskImportRow::line).toList());
+        assertNull(rows.get(0).error());
+        assertEquals("one\r\ntwo\r\nthree", rows.get(0).task().getDescription());
+        assertEquals("Unknown status: SOMEDAY", rows.get(1).error());
+        assertEquals("Expected 3 columns but found 4", rows.get(2).error());
+    }
+
+    private static List<TaskImportRow> readAll(String csv) throws IOException {
+        TaskImportReader reader = new CsvTaskImportReader(new StringReader(csv));
+        List<TaskImportRow> rows = new ArrayList<>();
+        TaskImportRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
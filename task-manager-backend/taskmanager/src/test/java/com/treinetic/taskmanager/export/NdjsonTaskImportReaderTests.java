@@ -0,0 +1,79 @@
+package com.treinetic.taskmanager.export;
+
+import com.treinetic.taskmanager.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NdjsonTaskImportReaderTests {
+
+    @Test
+    void readsOneTaskPerLineIgnoringUnknownProperties() throws IOException {
+        List<TaskImportRow> rows = readAll("{\"id\":7,\"title\":\"First\",\"description\":\"a\\nb\",\"status\":\"TO_DO\"}\r\n"
+                + "{\"title\":\"Second\",\"status\":\"DONE\",\"createdAt\":\"2024-01-01T00:00:00\"}");
+
+        assertEquals(2, rows.size());
+        assertEquals("First", rows.get(0).task().getTitle());
+        assertEquals("a\nb", rows.get(0).task().getDescription());
+        assertEquals(TaskStatus.DONE, rows.get(1).task().getStatus());
+        assertEquals(List.of(1L, 2L), rows.stream().map(TaskImportRow::line).toList());
+    }
+
+    @Test
+    void blankLinesAreSkippedButCounted() throws IOException {
+        List<TaskImportRow> rows = readAll("\n   \n{\"title\":\"First\",\"status\":\"TO_DO\"}\n\n");
+
+        assertEquals(1, rows.size());
+        assertEquals(3L, rows.get(0).line());
+    }
+
+    @Test
+    void malformedLineIsReportedByLineAndReadingResumes() throws IOException {
+        List<TaskImportRow> rows = readAll("{\"title\":\"First\",\"status\":\"TO_DO\"}\n"
+                + "{\"title\":\"Broken\"\n"
+                + "{\"title\":\"Third\",\"status\":\"SOMEDAY\"}\n"
+                + "null\n"
+                + "{\"title\":\"Fifth\",\"status\":\"TO_DO\"}\n");
+
+        assertEquals(5, rows.size());
+        assertNull(rows.get(1).task());
+        assertEquals(2L, rows.get(1).line());
+        assertTrue(rows.get(1).error().startsWith("Malformed JSON: "), rows.get(1).error());
+        assertEquals(3L, rows.get(2).line());
+        assertTrue(rows.get(2).error().startsWith("Malformed JSON: "), rows.get(2).error());
+        assertEquals("Task is required", rows.get(3).error());
+        assertEquals("Fifth", rows.get(4).task().getTitle());
+        assertEquals(5L, rows.get(4).line());
+    }
+
+    @Test
+    void overLongLineIsReportedByLineAndReadingResumes() throws IOException {
+        String longTitle = "x".repeat(TaskImportReader.MAX_ROW_LENGTH);
+        List<TaskImportRow> rows = readAll("{\"title\":\"" + longTitle + "\",\"status\":\"TO_DO\"}\n"
+                + "{\"title\":\"After\",\"status\":\"TO_DO\"}\n");
+
+        assertEquals(2, rows.size());
+        assertEquals(1L, rows.get(0).line());
+        assertEquals("Row is longer than " + TaskImportReader.MAX_ROW_LENGTH + " characters", rows.get(0).error());
+        assertEquals(2L, rows.get(1).line());
+        assertEquals("After", rows.get(1).task().getTitle());
+    }
+
+    private static List<TaskImportRow> readAll(String ndjson) throws IOException {
+        TaskImportReader reader = new NdjsonTaskImportReader(new StringReader(ndjson), Jackson2ObjectMapperBuilder.json().build());
+        List<TaskImportRow> rows = new ArrayList<>();
+        TaskImportRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
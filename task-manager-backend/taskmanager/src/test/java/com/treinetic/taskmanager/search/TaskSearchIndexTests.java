@@ -0,0 +1,185 @@
+package com.treinetic.taskmanager.search;
+
+import com.treinetic.taskmanager.dto.TaskResponse;
+import com.treinetic.taskmanager.event.TaskChangedEvent;
+import com.treinetic.taskmanager.model.Task;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.User;
+import com.treinetic.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskSearchIndexTests {
+    private static final long ALICE = 1L;
+    private static final long BOB = 2L;
+
+    private TaskRepository taskRepository;
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        index = new TaskSearchIndex(taskRepository);
+        ReflectionTestUtils.setField(index, "rebuildOnStartup", true);
+        ReflectionTestUtils.setField(index, "rebuildBatchSize", 2);
+    }
+
+    @Test
+    void tokenizeLowercasesAndSplitsOnAnythingButLettersAndDigits() {
+        assertEquals(List.of("fix", "the", "café", "bug", "42", "ünïcode"),
+                TaskSearchIndex.tokenize("  Fix the CAFÉ-bug #42, ÜNÏCODE!  "));
+        assertEquals(List.of(), TaskSearchIndex.tokenize(null));
+        assertEquals(List.of(), TaskSearchIndex.tokenize(" \t"));
+        assertEquals(List.of(), TaskSearchIndex.tokenize("--- !!!"));
+    }
+
+    @Test
+    void queryIsTokenizedLikeTheDocuments() {
+        created(ALICE, 1, "Quarterly REPORT", null);
+
+        assertEquals(List.of(1L), index.search(ALICE, "report", 10));
+        assertEquals(List.of(1L), index.search(ALICE, "Report!!", 10));
+        assertEquals(List.of(), index.search(ALICE, "   ", 10));
+        assertEquals(List.of(), index.search(ALICE, "rep", 10));
+    }
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() {
+        created(ALICE, 1, "Groceries", "buy milk");
+        created(ALICE, 2, "Milk", "from the farm");
+        created(ALICE, 3, "Laundry", "wash clothes");
+
+        assertEquals(List.of(2L, 1L), index.search(ALICE, "milk", 10));
+    }
+
+    @Test
+    void rarerTermsAndRepeatedTermsScoreHigher() {
+        created(ALICE, 1, "Invoice", "send invoice invoice");
+        created(ALICE, 2, "Invoice", "send");
+        created(ALICE, 3, "Urgent", "call bank");
+        created(ALICE, 4, "Email", "send reply");
+
+        // "invoice" appears more often in task 1; "urgent" is rarer than "send".
+        assertEquals(List.of(1L, 2L), index.search(ALICE, "invoice", 10));
+        assertEquals(List.of(3L, 2L, 4L, 1L), index.search(ALICE, "urgent send", 10));
+    }
+
+    @Test
+    void shorterDocumentsWinOnEqualTermFrequency() {
+        created(ALICE, 1, "Plan", "plan the offsite with agenda travel rooms catering and speakers");
+        created(ALICE, 2, "Plan", "plan offsite");
+
+        assertEquals(List.of(2L, 1L), index.search(ALICE, "offsite", 10));
+    }
+
+    @Test
+    void searchReturnsAtMostLimitBestFirst() {
+        for (long id = 1; id <= 5; id++) {
+            created(ALICE, id, "report " + "report ".repeat((int) id), null);
+        }
+
+        assertEquals(List.of(5L, 4L), index.search(ALICE, "report", 2));
+    }
+
+    @Test
+    void updateReplacesTheIndexedTerms() {
+        created(ALICE, 1, "Draft report", null);
+
+        index.onTaskChanged(TaskChangedEvent.updated(task(ALICE, 1, "Final budget", null)));
+
+        assertEquals(List.of(), index.search(ALICE, "report", 10));
+        assertEquals(List.of(1L), index.search(ALICE, "budget", 10));
+    }
+
+    @Test
+    void deleteRemovesTheTask() {
+        created(ALICE, 1, "Draft report", null);
+        created(ALICE, 2, "Report review", null);
+
+        index.onTaskChanged(TaskChangedEvent.deleted(ALICE, 1L));
+        index.onTaskChanged(TaskChangedEvent.deleted(ALICE, 99L));
+
+        assertEquals(List.of(2L), index.search(ALICE, "report", 10));
+        assertEquals(List.of(), index.search(ALICE, "draft", 10));
+    }
+
+    @Test
+    void usersOnlyFindTheirOwnTasks() {
+        created(ALICE, 1, "Report", null);
+        created(BOB, 2, "Report", null);
+
+        assertEquals(List.of(1L), index.search(ALICE, "report", 10));
+        assertEquals(List.of(2L), index.search(BOB, "report", 10));
+        assertEquals(List.of(), index.search(3L, "report", 10));
+
+        index.onTaskChanged(TaskChangedEvent.deleted(BOB, 1L));
+        assertEquals(List.of(1L), index.search(ALICE, "report", 10));
+    }
+
+    @Test
+    void rebuildReadsAllBatchesWithoutOverwritingLiveChanges() {
+        User alice = User.builder().id(ALICE).username("alice").build();
+        Task first = Task.builder().id(1L).title("Old title").user(alice).build();
+        Task second = Task.builder().id(2L).title("Budget").user(alice).build();
+        Task third = Task.builder().id(3L).title("Budget review").user(alice).build();
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenAnswer(invocation ->
+                switch (((Long) invocation.getArgument(0)).intValue()) {
+                    case 0 -> List.of(first, second);
+                    case 2 -> List.of(third);
+                    default -> List.of();
+                });
+        // Task 1 changed after the rebuild read its row.
+        created(ALICE, 1, "New title", null);
+
+        index.rebuild();
+
+        assertEquals(List.of(2L, 3L), index.search(ALICE, "budget", 10));
+        assertEquals(List.of(1L), index.search(ALICE, "new", 10));
+        assertEquals(List.of(), index.search(ALICE, "old", 10));
+    }
+
+    @Test
+    void taskDeletedAfterTheRebuildReadItIsNotIndexedAgain() {
+        User alice = User.builder().id(ALICE).username("alice").build();
+        Task deleted = Task.builder().id(1L).title("Budget").user(alice).build();
+        Task kept = Task.builder().id(2L).title("Budget review").user(alice).build();
+        created(ALICE, 1, "Budget", null);
+        when(taskRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            if ((Long) invocation.getArgument(0) != 0) {
+                return List.of();
+            }
+            // Task 1 is deleted after the rebuild read its row, but before it is indexed.
+            index.onTaskChanged(TaskChangedEvent.deleted(ALICE, 1L));
+            return List.of(deleted, kept);
+        });
+
+        index.rebuild();
+
+        assertEquals(List.of(2L), index.search(ALICE, "budget", 10));
+    }
+
+    private void created(long userId, long taskId, String title, String description) {
+        index.onTaskChanged(TaskChangedEvent.created(task(userId, taskId, title, description)));
+    }
+
+    private static TaskResponse task(long userId, long taskId, String title, String description) {
+        return TaskResponse.builder()
+                .id(taskId)
+                .userId(userId)
+                .title(title)
+                .description(description)
+                .status(TaskStatus.TO_DO)
+                .version(0L)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.treinetic.taskmanager.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.treinetic.taskmanager.config.RateLimitProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RateLimitFilterTests {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void requestsOverTheBurstAreRejectedWithRetryAfter() throws Exception {
+        RateLimitFilter filter = filter(true, new RateLimitProperties.Route("/api/auth/**", RateLimitProperties.Key.IP, 2, 0.25));
+
+        assertEquals(200, send(filter, "/api/auth/authenticate", "10.0.0.1").getStatus());
+        assertEquals(200, send(filter, "/api/auth/register", "10.0.0.1").getStatus());
+        MockHttpServletResponse rejected = send(filter, "/api/auth/authenticate", "10.0.0.1");
+
+        assertEquals(429, rejected.getStatus());
+        // One token takes four seconds to refill; allow for the time the test itself took.
+        long retryAfter = Long.parseLong(rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(4, retryAfter, 1);
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, rejected.getContentType());
+        JsonNode body = objectMapper.readTree(rejected.getContentAsString());
+        assertEquals(429, body.get("status").asInt());
+        assertEquals("/api/auth/authenticate", body.get("path").asText());
+    }
+
+    @Test
+    void rejectedRequestDoesNotReachTheChain() throws Exception {
+        RateLimitFilter filter = filter(true, new RateLimitProperties.Route("/api/**", RateLimitProperties.Key.IP, 1, 0));
+        send(filter, "/api/tasks", "10.0.0.1");
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request("/api/tasks", "10.0.0.1"), new MockHttpServletResponse(), chain);
+
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    void clientsAndRoutesHaveSeparateBuckets() throws Exception {
+        RateLimitFilter filter = filter(true,
+                new RateLimitProperties.Route("/api/auth/**", RateLimitProperties.Key.IP, 1, 0),
+                new RateLimitProperties.Route("/api/**", RateLimitProperties.Key.USER, 1, 0));
+
+        assertEquals(200, send(filter, "/api/auth/authenticate", "10.0.0.1").getStatus());
+        assertEquals(200, send(filter, "/api/auth/authenticate", "10.0.0.2").getStatus());
+        assertEquals(200, send(filter, "/api/tasks", "10.0.0.1").getStatus());
+        assertEquals(429, send(filter, "/api/auth/authenticate", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void userRoutesAreCountedPerUserWhateverTheAddress() throws Exception {
+        RateLimitFilter filter = filter(true, new RateLimitProperties.Route("/api/tasks/**", RateLimitProperties.Key.USER, 1, 0));
+
+        authenticate("alice");
+        assertEquals(200, send(filter, "/api/tasks", "10.0.0.1").getStatus());
+        assertEquals(429, send(filter, "/api/tasks/1", "10.0.0.2").getStatus());
+        authenticate("bob");
+        assertEquals(200, send(filter, "/api/tasks", "10.0.0.1").getStatus());
+    }
+
+    @Test
+    void unmatchedPathsAndDisabledLimitsAreNotCounted() throws Exception {
+        RateLimitProperties.Route route = new RateLimitProperties.Route("/api/auth/**", RateLimitProperties.Key.IP, 1, 0);
+        RateLimitFilter enabled = filter(true, route);
+        RateLimitFilter disabled = filter(false, route);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, send(enabled, "/actuator/health", "10.0.0.1").getStatus());
+            assertEquals(200, send(disabled, "/api/auth/authenticate", "10.0.0.1").getStatus());
+        }
+    }
+
+    private RateLimitFilter filter(boolean enabled, RateLimitProperties.Route... routes) {
+        return new RateLimitFilter(new RateLimitProperties(enabled, Duration.ofMinutes(10), 1_000, List.of(routes)), objectMapper);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private static MockHttpServletResponse send(RateLimitFilter filter, String path, String remoteAddr) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(path, remoteAddr), response, chain);
+        if (response.getStatus() == 200) {
+            assertNotNull(chain.getRequest());
+        }
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String path, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
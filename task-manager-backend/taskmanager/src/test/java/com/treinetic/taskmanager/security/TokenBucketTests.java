@@ -0,0 +1,102 @@
+package com.treinetic.taskmanager.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketTests {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void fullBucketAllowsABurstOfCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(SECOND, bucket.tryConsume(0));
+    }
+
+    @Test
+    void tokensRefillOverTimeAndWaitShrinks() {
+        TokenBucket bucket = new TokenBucket(1, 2, 0);
+        assertEquals(0, bucket.tryConsume(0));
+
+        assertEquals(SECOND / 2, bucket.tryConsume(0));
+        assertEquals(SECOND / 4, bucket.tryConsume(SECOND / 4));
+        assertEquals(0, bucket.tryConsume(SECOND / 2));
+        assertEquals(SECOND / 2, bucket.tryConsume(SECOND / 2));
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 10, 0);
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+
+        // An hour idle still only refills the bucket to its capacity.
+        long later = TimeUnit.HOURS.toNanos(1);
+        assertEquals(0, bucket.tryConsume(later));
+        assertEquals(0, bucket.tryConsume(later));
+        assertEquals(SECOND / 10, bucket.tryConsume(later));
+    }
+
+    @Test
+    void clockGoingBackwardsDoesNotRefillOrLoseTime() {
+        TokenBucket bucket = new TokenBucket(1, 1, SECOND);
+        assertEquals(0, bucket.tryConsume(SECOND));
+
+        // A caller that read the clock before another one took a token must not be credited twice.
+        assertEquals(SECOND, bucket.tryConsume(SECOND / 2));
+        assertEquals(0, bucket.tryConsume(2 * SECOND));
+    }
+
+    @Test
+    void bucketWithoutRefillNeverAllowsMoreThanCapacity() {
+        TokenBucket bucket = new TokenBucket(1, 0, 0);
+        assertEquals(0, bucket.tryConsume(0));
+
+        assertEquals(Long.MAX_VALUE, bucket.tryConsume(TimeUnit.DAYS.toNanos(1)));
+    }
+
+    @Test
+    void concurrentCallersTakeExactlyCapacityTokens() throws Exception {
+        int capacity = 10_000;
+        int threads = 4;
+        TokenBucket bucket = new TokenBucket(capacity, 0, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int taken = 0;
+                    for (int i = 0; i < capacity; i++) {
+                        if (bucket.tryConsume(0) == 0) {
+                            taken++;
+                        }
+                    }
+                    return taken;
+                }));
+            }
+            start.countDown();
+            int taken = 0;
+            for (Future<Integer> result : results) {
+                taken += result.get();
+            }
+
+            assertEquals(capacity, taken);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.treinetic.taskmanager.service;
+
+import com.treinetic.taskmanager.dto.TaskImportError;
+import com.treinetic.taskmanager.dto.TaskImportResponse;
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.export.TaskExportFormat;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskImportServiceTests {
+    private ValidatorFactory validatorFactory;
+    private TaskImportService importService;
+    /** The titles of each chunk passed to the task service, copied as the chunk is reused. */
+    private final List<List<String>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        TaskService taskService = mock(TaskService.class);
+        when(taskService.importTasks(anyList())).thenAnswer(invocation -> {
+            List<TaskRequest> chunk = invocation.getArgument(0);
+            chunks.add(chunk.stream().map(TaskRequest::getTitle).toList());
+            return chunk.size();
+        });
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        importService = new TaskImportService(taskService, validatorFactory.getValidator(),
+                Jackson2ObjectMapperBuilder.json().build());
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        ReflectionTestUtils.setField(importService, "maxErrors", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void validRowsAreWrittenInChunksWithTheRemainderLast() throws Exception {
+        TaskImportResponse response = importCsv("title,status\nA,TO_DO\nB,TO_DO\nC,DONE\nD,DONE\nE,IN_PROGRESS\n");
+
+        assertEquals(List.of(List.of("A", "B"), List.of("C", "D"), List.of("E")), chunks);
+        assertEquals(5, response.getProcessed());
+        assertEquals(5, response.getImported());
+        assertEquals(0, response.getFailed());
+        assertEquals(List.of(), response.getErrors());
+        assertFalse(response.isErrorsTruncated());
+    }
+
+    @Test
+    void invalidRowsAreSkippedAndDoNotBreakChunks() throws Exception {
+        TaskImportResponse response = importCsv("title,status\nA,TO_DO\n,TO_DO\nB,\nC,DONE\n");
+
+        assertEquals(List.of(List.of("A", "C")), chunks);
+        assertEquals(4, response.getProcessed());
+        assertEquals(2, response.getImported());
+        assertEquals(2, response.getFailed());
+        assertEquals(List.of(new TaskImportError(3, "title: Title is required"),
+                new TaskImportError(4, "status: Status is required")), response.getErrors());
+        assertFalse(response.isErrorsTruncated());
+    }
+
+    @Test
+    void onlyTheFirstMaxErrorsAreListedAndTheRestCounted() throws Exception {
+        TaskImportResponse response = importNdjson("""
+                {"title":"A","status":"TO_DO"}
+                {"title":"","status":"TO_DO"}
+                not json
+                {"title":"B","status":"SOMEDAY"}
+                {"title":"C","status":"DONE"}
+                """);
+
+        assertEquals(List.of(List.of("A", "C")), chunks);
+        assertEquals(5, response.getProcessed());
+        assertEquals(2, response.getImported());
+        assertEquals(3, response.getFailed());
+        assertEquals(List.of(2L, 3L), response.getErrors().stream().map(TaskImportError::getLine).toList());
+        assertTrue(response.isErrorsTruncated());
+    }
+
+    @Test
+    void emptyImportWritesNothing() throws Exception {
+        TaskImportResponse response = importNdjson("\n\n");
+
+        assertEquals(List.of(), chunks);
+        assertEquals(0, response.getProcessed());
+        assertFalse(response.isErrorsTruncated());
+    }
+
+    private TaskImportResponse importCsv(String csv) throws Exception {
+        return importService.importTasks(TaskExportFormat.CSV, new StringReader(csv));
+    }
+
+    private TaskImportResponse importNdjson(String ndjson) throws Exception {
+        return importService.importTasks(TaskExportFormat.NDJSON, new StringReader(ndjson));
+    }
+}
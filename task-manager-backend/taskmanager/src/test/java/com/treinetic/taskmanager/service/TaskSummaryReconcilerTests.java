@@ -0,0 +1,130 @@
+package com.treinetic.taskmanager.service;
+
+import com.treinetic.taskmanager.ApiTestSupport;
+import com.treinetic.taskmanager.cache.TaskSummaryCache;
+import com.treinetic.taskmanager.dto.TaskRequest;
+import com.treinetic.taskmanager.dto.TaskSummaryResponse;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.TaskSummary;
+import com.treinetic.taskmanager.repository.TaskSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Checks that {@link TaskSummaryReconciler} repairs stored summaries and evicts cached counters
+ * that have drifted from them.
+ */
+class TaskSummaryReconcilerTests extends ApiTestSupport {
+
+    @Autowired
+    private TaskSummaryReconciler reconciler;
+
+    @Autowired
+    private TaskSummaryRepository taskSummaryRepository;
+
+    @Autowired
+    private TaskSummaryCache taskSummaryCache;
+
+    @Test
+    void storedSummaryThatDriftedIsRepairedAndItsCountersEvicted() throws Exception {
+        createTask(TaskStatus.TO_DO);
+        createTask(TaskStatus.DONE);
+        assertSummary(1, 0, 1);
+        TaskSummary stored = taskSummaryRepository.findById(userId).orElseThrow();
+        // As if a task had been deleted directly in the database.
+        taskSummaryRepository.save(new TaskSummary(userId, 1, 0, 2, stored.getVersion()));
+        taskSummaryCache.evict(userId);
+        assertSummary(1, 0, 2);
+
+        reconciler.reconcile();
+
+        TaskSummary repaired = taskSummaryRepository.findById(userId).orElseThrow();
+        assertEquals(1, repaired.getToDo());
+        assertEquals(1, repaired.getDone());
+        assertNull(taskSummaryCache.get(userId));
+        assertSummary(1, 0, 1);
+    }
+
+    @Test
+    void missingStoredSummaryIsCreated() throws Exception {
+        createTask(TaskStatus.IN_PROGRESS);
+        taskSummaryRepository.deleteById(userId);
+
+        reconciler.reconcile();
+
+        assertEquals(1, taskSummaryRepository.findById(userId).orElseThrow().getInProgress());
+    }
+
+    @Test
+    void writeAfterTheStoredSummaryWentMissingStoresTheFullCounts() throws Exception {
+        createTask(TaskStatus.TO_DO);
+        createTask(TaskStatus.DONE);
+        taskSummaryRepository.deleteById(userId);
+
+        createTask(TaskStatus.TO_DO);
+
+        TaskSummary stored = taskSummaryRepository.findById(userId).orElseThrow();
+        assertEquals(2, stored.getToDo());
+        assertEquals(1, stored.getDone());
+        assertEquals(0, stored.getInProgress());
+    }
+
+    @Test
+    void countersSeededBeforeAMissedChangeAreEvicted() throws Exception {
+        createTask(TaskStatus.TO_DO);
+        TaskSummary before = taskSummaryRepository.findById(userId).orElseThrow();
+        createTask(TaskStatus.TO_DO);
+        // What a seed racing the second write leaves behind: its change never reaches the counters.
+        taskSummaryCache.evict(userId);
+        taskSummaryCache.seed(before);
+        assertSummary(1, 0, 0);
+
+        reconciler.reconcile();
+
+        assertNull(taskSummaryCache.get(userId));
+        assertSummary(2, 0, 0);
+    }
+
+    @Test
+    void countersDisagreeingAtTheSameVersionAreEvicted() throws Exception {
+        createTask(TaskStatus.TO_DO);
+        TaskSummary stored = taskSummaryRepository.findById(userId).orElseThrow();
+        taskSummaryCache.evict(userId);
+        taskSummaryCache.seed(new TaskSummary(userId, 5, 0, 0, stored.getVersion()));
+
+        reconciler.reconcile();
+
+        assertNull(taskSummaryCache.get(userId));
+        assertSummary(1, 0, 0);
+    }
+
+    @Test
+    void countersThatMatchAreKept() throws Exception {
+        createTask(TaskStatus.TO_DO);
+        assertSummary(1, 0, 0);
+        TaskSummaryCache.Counters counters = taskSummaryCache.get(userId);
+        assertNotNull(counters);
+
+        reconciler.reconcile();
+
+        assertSame(counters, taskSummaryCache.get(userId));
+    }
+
+    private void createTask(TaskStatus status) throws Exception {
+        createTask(TaskRequest.builder().title("Task").status(status).build());
+    }
+
+    private void assertSummary(long toDo, long inProgress, long done) throws Exception {
+        TaskSummaryResponse summary = read(mockMvc.perform(authorized(get("/api/tasks/summary"))).andReturn(),
+                TaskSummaryResponse.class);
+        assertEquals(toDo, summary.getToDo());
+        assertEquals(inProgress, summary.getInProgress());
+        assertEquals(done, summary.getDone());
+    }
+}
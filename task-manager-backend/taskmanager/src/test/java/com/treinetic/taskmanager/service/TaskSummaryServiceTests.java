@@ -0,0 +1,114 @@
+package com.treinetic.taskmanager.service;
+
+import com.treinetic.taskmanager.cache.TaskSummaryCache;
+import com.treinetic.taskmanager.dto.TaskStatusCount;
+import com.treinetic.taskmanager.dto.TaskSummaryResponse;
+import com.treinetic.taskmanager.event.TaskSummaryChangedEvent;
+import com.treinetic.taskmanager.model.TaskStatus;
+import com.treinetic.taskmanager.model.TaskSummary;
+import com.treinetic.taskmanager.repository.TaskRepository;
+import com.treinetic.taskmanager.repository.TaskSummaryRepository;
+import com.treinetic.taskmanager.repository.TaskWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskSummaryServiceTests {
+    private static final long USER = 7L;
+
+    private TaskSummaryRepository taskSummaryRepository;
+    private TaskRepository taskRepository;
+    private TaskSummaryCache cache;
+    private TaskSummaryService service;
+
+    @BeforeEach
+    void setUp() {
+        taskSummaryRepository = mock(TaskSummaryRepository.class);
+        cache = new TaskSummaryCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 1_000L);
+        ReflectionTestUtils.setField(cache, "ttl", 600_000L);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+        taskRepository = mock(TaskRepository.class);
+        service = new TaskSummaryService(taskSummaryRepository, taskRepository,
+                mock(TaskWatermarkRepository.class), cache, mock(ApplicationEventPublisher.class),
+                mock(PlatformTransactionManager.class));
+        service.init();
+    }
+
+    @Test
+    void missSeedsTheCountersFromTheStoredSummary() {
+        when(taskSummaryRepository.findById(USER)).thenReturn(Optional.of(new TaskSummary(USER, 2, 1, 0, 5)));
+        when(taskSummaryRepository.findVersionByUserId(USER)).thenReturn(Optional.of(5L));
+
+        assertCounts(2, 1, 0, service.getSummary(USER));
+        assertNotNull(cache.get(USER));
+
+        // Later reads are served from the counters.
+        cache.onSummaryChanged(new TaskSummaryChangedEvent(USER, 6, 1, 0, 0));
+        assertCounts(3, 1, 0, service.getSummary(USER));
+        verify(taskSummaryRepository, times(1)).findById(USER);
+    }
+
+    @Test
+    void writeCommittedWhileSeedingEvictsTheStaleCounters() {
+        // The write at version 6 commits after the summary is read, and its event finds no counters.
+        when(taskSummaryRepository.findById(USER))
+                .thenReturn(Optional.of(new TaskSummary(USER, 2, 1, 0, 5)))
+                .thenReturn(Optional.of(new TaskSummary(USER, 3, 1, 0, 6)));
+        when(taskSummaryRepository.findVersionByUserId(USER)).thenReturn(Optional.of(6L));
+        cache.onSummaryChanged(new TaskSummaryChangedEvent(USER, 6, 1, 0, 0));
+
+        assertCounts(3, 1, 0, service.getSummary(USER));
+        assertNull(cache.get(USER));
+
+        // The next request seeds again, now including the write.
+        assertCounts(3, 1, 0, service.getSummary(USER));
+        assertEquals(6, cache.get(USER).getVersion());
+    }
+
+    @Test
+    void changeIsAddedToTheStoredSummary() {
+        when(taskSummaryRepository.add(USER, -1, 1, 0, 6)).thenReturn(1);
+        TaskStatusCounts delta = new TaskStatusCounts();
+        delta.move(TaskStatus.TO_DO, TaskStatus.IN_PROGRESS);
+
+        service.adjust(USER, 6, delta);
+
+        verify(taskSummaryRepository, never()).store(anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void changeForAUserWithoutAStoredSummaryStoresTheirCounts() {
+        // The user's tasks predate the summary: deleting one must not store -1.
+        when(taskRepository.countByStatusForUsers(List.of(USER))).thenReturn(List.of(
+                new TaskStatusCount(USER, TaskStatus.TO_DO, 2), new TaskStatusCount(USER, TaskStatus.DONE, 1)));
+        TaskStatusCounts delta = new TaskStatusCounts();
+        delta.move(TaskStatus.TO_DO, null);
+
+        service.adjust(USER, 6, delta);
+
+        verify(taskSummaryRepository).store(USER, 2, 0, 1, 6);
+    }
+
+    private static void assertCounts(long toDo, long inProgress, long done, TaskSummaryResponse summary) {
+        assertEquals(toDo, summary.getToDo());
+        assertEquals(inProgress, summary.getInProgress());
+        assertEquals(done, summary.getDone());
+        assertEquals(toDo + inProgress + done, summary.getTotal());
+    }
+}
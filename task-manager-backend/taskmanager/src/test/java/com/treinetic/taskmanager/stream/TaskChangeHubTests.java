@@ -0,0 +1,168 @@
+package com.treinetic.taskmanager.stream;
+
+import com.treinetic.taskmanager.event.TaskChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskChangeHubTests {
+    private final Queue<RecordingEmitter> emitters = new ArrayDeque<>();
+    private TaskChangeHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new TaskChangeHub() {
+            @Override
+            SseEmitter createEmitter() {
+                return emitters.remove();
+            }
+        };
+        ReflectionTestUtils.setField(hub, "bufferSize", 2);
+        ReflectionTestUtils.setField(hub, "timeout", 60_000L);
+        ReflectionTestUtils.setField(hub, "maxSubscribersPerUser", 10);
+        ReflectionTestUtils.setField(hub, "writeTimeout", 50L);
+        hub.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void stalledStreamsDoNotHoldUpOtherUsers() throws Exception {
+        List<RecordingEmitter> stalled = List.of(stalled(), stalled(), stalled());
+        for (long userId = 1; userId <= stalled.size(); userId++) {
+            hub.subscribe(userId);
+        }
+        for (RecordingEmitter emitter : stalled) {
+            assertTrue(emitter.writing.await(5, TimeUnit.SECONDS));
+        }
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        emitters.add(healthy);
+        hub.subscribe(9L);
+
+        hub.onTaskChanged(TaskChangedEvent.deleted(9L, 100L));
+
+        // The "connected" comment and the change.
+        awaitTrue(() -> healthy.sent.size() == 2);
+        stalled.forEach(emitter -> emitter.release.countDown());
+    }
+
+    @Test
+    void writeThatTimesOutRemovesTheStreamAndCompletesItWithAnError() throws Exception {
+        RecordingEmitter emitter = stalled();
+        hub.subscribe(1L);
+        assertTrue(emitter.writing.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        hub.evictStalledSubscribers();
+
+        assertEquals(0, hub.getSubscriberCount());
+        assertInstanceOf(IOException.class, emitter.error);
+        emitter.release.countDown();
+    }
+
+    @Test
+    void writeWithinTheTimeoutIsNotEvicted() throws Exception {
+        RecordingEmitter emitter = stalled();
+        hub.subscribe(1L);
+        assertTrue(emitter.writing.await(5, TimeUnit.SECONDS));
+
+        ReflectionTestUtils.setField(hub, "writeTimeout", 60_000L);
+        hub.evictStalledSubscribers();
+
+        assertEquals(1, hub.getSubscriberCount());
+        emitter.release.countDown();
+    }
+
+    @Test
+    void streamThatOverflowsIsRemovedAtOnceThenReset() throws Exception {
+        RecordingEmitter emitter = stalled();
+        hub.subscribe(1L);
+        assertTrue(emitter.writing.await(5, TimeUnit.SECONDS));
+
+        for (long taskId = 1; taskId <= 3; taskId++) {
+            hub.onTaskChanged(TaskChangedEvent.deleted(1L, taskId));
+        }
+        assertEquals(0, hub.getSubscriberCount());
+
+        emitter.release.countDown();
+        awaitTrue(() -> emitter.completed);
+        // The "connected" comment, then the reset instead of the dropped changes.
+        assertEquals(2, emitter.sent.size());
+        assertTrue(emitter.sent.get(1).iterator().next().getData().toString().contains("event:reset"));
+    }
+
+    private RecordingEmitter stalled() {
+        RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(1));
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertFalse(System.nanoTime() > deadline, "Timed out waiting for the condition");
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Records what is written instead of writing it; with a {@code release} latch, each write
+     * blocks until it is counted down, like a write to a client that stopped reading.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final List<Set<DataWithMediaType>> sent = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            writing.countDown();
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+            }
+            sent.add(items);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            error = ex;
+        }
+    }
+}
@@ -2,8 +2,10 @@ export interface Task {
   id: number;
   title: string;
   description: string;
-  status: 'TO_DO' | 'IN_PROGRESS' | 'DONE';
+  status: TaskStatus;
   createdAt: string;
+  updatedAt?: string;
+  version?: number;
   userId: number;
   username?: string;
 }
@@ -13,3 +15,28 @@ export interface TaskRequest {
   description: string;
   status: string;
 }
+
+
+export type TaskStatus = 'TO_DO' | 'IN_PROGRESS' | 'DONE';
+
+export interface TaskQuery {
+  status?: TaskStatus;
+  createdFrom?: string;
+  createdTo?: string;
+  titlePrefix?: string;
+  direction?: 'ASC' | 'DESC';
+  cursor?: string | null;
+  limit?: number;
+}
+
+export interface TaskPage {
+  items: Task[];
+  nextCursor: string | null;
+  hasMore: boolean;
+}
+
+export interface TaskChange {
+  type: 'CREATED' | 'UPDATED' | 'DELETED' | 'RESET';
+  taskId?: number;
+  task?: Task | null;
+}
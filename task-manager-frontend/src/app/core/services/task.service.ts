@@ -1,8 +1,8 @@
 import { Injectable, inject } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 //import { Environment } from '../../../environments/environment';
 import { Observable } from 'rxjs';
-import { Task, TaskRequest } from '../models/task.model';
+import { Task, TaskChange, TaskPage, TaskQuery, TaskRequest } from '../models/task.model';
 import { environment } from '../../../environments/environment.development';
 
 @Injectable({ providedIn: 'root' })
@@ -10,8 +10,14 @@ export class TaskService {
   private http = inject(HttpClient);
   private readonly apiUrl = `${environment.apiUrl}/api/tasks`;
 
-  getAllTasks(): Observable<Task[]> {
-    return this.http.get<Task[]>(this.apiUrl);
+  getTasks(query: TaskQuery = {}): Observable<TaskPage> {
+    let params = new HttpParams();
+    for (const [key, value] of Object.entries(query)) {
+      if (value !== undefined && value !== null && value !== '') {
+        params = params.set(key, value);
+      }
+    }
+    return this.http.get<TaskPage>(this.apiUrl, { params });
   }
 
   getTaskById(id: number): Observable<Task> {
@@ -22,11 +28,65 @@ export class TaskService {
     return this.http.post<Task>(this.apiUrl, task);
   }
 
-  updateTask(id: number, task: TaskRequest): Observable<Task> {
-    return this.http.put<Task>(`${this.apiUrl}/${id}`, task);
+  /**
+   * Updates a task. When the version the user started editing is given, the server
+   * rejects the update with 412 if someone else has changed the task in the meantime.
+   */
+  updateTask(id: number, task: TaskRequest, version?: number): Observable<Task> {
+    const headers: Record<string, string> =
+      version !== undefined ? { 'If-Match': `"${id}-${version}"` } : {};
+    return this.http.put<Task>(`${this.apiUrl}/${id}`, task, { headers });
   }
 
   deleteTask(id: number): Observable<void> {
     return this.http.delete<void>(`${this.apiUrl}/${id}`);
   }
+
+  /**
+   * Streams the server-sent changes to the current user's tasks. EventSource cannot send
+   * the Authorization header, so the stream is read with fetch. Completes when the server
+   * ends the stream; unsubscribing closes the connection.
+   */
+  watchChanges(): Observable<TaskChange> {
+    return new Observable<TaskChange>(subscriber => {
+      const controller = new AbortController();
+      const token = localStorage.getItem('token');
+      const headers: Record<string, string> = token ? { Authorization: `Bearer ${token}` } : {};
+
+      fetch(`${this.apiUrl}/stream`, { headers, signal: controller.signal })
+        .then(async response => {
+          if (!response.ok || !response.body) {
+            throw new Error(`Task stream failed with status ${response.status}`);
+          }
+          const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+          let buffer = '';
+          for (;;) {
+            const { value, done } = await reader.read();
+            if (done) {
+              break;
+            }
+            buffer += value;
+            let end: number;
+            while ((end = buffer.indexOf('\n\n')) >= 0) {
+              const data = buffer.slice(0, end).split('\n')
+                .filter(line => line.startsWith('data:'))
+                .map(line => line.slice(5))
+                .join('\n');
+              buffer = buffer.slice(end + 2);
+              if (data) {
+                subscriber.next(JSON.parse(data) as TaskChange);
+              }
+            }
+          }
+          subscriber.complete();
+        })
+        .catch(err => {
+          if (!controller.signal.aborted) {
+            subscriber.error(err);
+          }
+        });
+
+      return () => controller.abort();
+    });
+  }
 }
@@ -17,6 +17,7 @@ export class TaskFormComponent implements OnInit {
   taskForm!: ReturnType<FormBuilder['group']>;
   isEditMode = false;
   taskId: number | null = null;
+  taskVersion: number | undefined;
   isLoading = false;
   error: string | null = null;
 
@@ -49,6 +50,7 @@ export class TaskFormComponent implements OnInit {
     this.isLoading = true;
     this.taskService.getTaskById(this.taskId).subscribe({
       next: (task) => {
+        this.taskVersion = task.version;
         this.taskForm.patchValue({
           title: task.title,
           description: task.description,
@@ -72,15 +74,17 @@ export class TaskFormComponent implements OnInit {
 
     const operation =
       this.isEditMode && this.taskId
-        ? this.taskService.updateTask(this.taskId, taskData)
+        ? this.taskService.updateTask(this.taskId, taskData, this.taskVersion)
         : this.taskService.createTask(taskData);
 
     operation.subscribe({
       next: () => this.router.navigate(['/tasks']),
-      error: () => {
-        this.error = this.isEditMode
-          ? 'Failed to update task'
-          : 'Failed to create task';
+      error: (err) => {
+        this.error = err?.status === 412
+          ? 'This task was changed elsewhere. Reload it to see the latest version.'
+          : this.isEditMode
+            ? 'Failed to update task'
+            : 'Failed to create task';
         this.isLoading = false;
       },
     });
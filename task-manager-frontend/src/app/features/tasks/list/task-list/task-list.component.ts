@@ -1,11 +1,12 @@
 // task-list.component.ts
-import { Component, OnInit } from '@angular/core';
-import { CommonModule } from '@angular/common';
+import { Component, OnDestroy, OnInit, PLATFORM_ID, inject } from '@angular/core';
+import { CommonModule, isPlatformBrowser } from '@angular/common';
 import { TaskService } from '../../../../core/services/task.service';
 import { AuthService } from '../../../../core/services/auth.service';
 import { RouterLink } from '@angular/router';
 import { FormsModule } from '@angular/forms';
-import { Task } from '../../../../core/models/task.model';
+import { Task, TaskChange, TaskQuery, TaskStatus } from '../../../../core/models/task.model';
+import { Subscription, repeat, retry } from 'rxjs';
 @Component({
   selector: 'app-task-list',
   standalone: true,
@@ -13,13 +14,18 @@ import { Task } from '../../../../core/models/task.model';
   templateUrl: './task-list.component.html',
   styleUrls: ['./task-list.component.scss']
 })
-export class TaskListComponent implements OnInit {
+export class TaskListComponent implements OnInit, OnDestroy {
   tasks: Task[] = [];
-  filteredTasks: Task[] = [];
   statusFilter = 'ALL';
+  nextCursor: string | null = null;
+  hasMore = false;
   isLoading = false;
+  isLoadingMore = false;
   error: string | null = null;
 
+  private platformId = inject(PLATFORM_ID);
+  private changes?: Subscription;
+
   constructor(
     public authService: AuthService,
     private taskService: TaskService
@@ -27,16 +33,27 @@ export class TaskListComponent implements OnInit {
 
   ngOnInit(): void {
     this.loadTasks();
+    if (isPlatformBrowser(this.platformId)) {
+      // Keep the list current from pushed changes instead of reloading it; reconnect when the stream ends.
+      this.changes = this.taskService.watchChanges()
+        .pipe(repeat({ delay: 1000 }), retry({ delay: 5000 }))
+        .subscribe(change => this.applyChange(change));
+    }
+  }
+
+  ngOnDestroy(): void {
+    this.changes?.unsubscribe();
   }
 
   loadTasks(): void {
     this.isLoading = true;
     this.error = null;
     
-    this.taskService.getAllTasks().subscribe({
-      next: tasks => {
-        this.tasks = tasks;
-        this.applyFilter();
+    this.taskService.getTasks(this.buildQuery()).subscribe({
+      next: page => {
+        this.tasks = page.items;
+        this.nextCursor = page.nextCursor;
+        this.hasMore = page.hasMore;
         this.isLoading = false;
       },
       error: () => {
@@ -46,14 +63,53 @@ export class TaskListComponent implements OnInit {
     });
   }
 
-  applyFilter(): void {
-    this.filteredTasks = this.statusFilter === 'ALL'
-      ? [...this.tasks]
-      : this.tasks.filter(task => task.status === this.statusFilter);
+  loadMore(): void {
+    if (!this.nextCursor) {
+      return;
+    }
+    this.isLoadingMore = true;
+
+    this.taskService.getTasks({ ...this.buildQuery(), cursor: this.nextCursor }).subscribe({
+      next: page => {
+        this.tasks = [...this.tasks, ...page.items];
+        this.nextCursor = page.nextCursor;
+        this.hasMore = page.hasMore;
+        this.isLoadingMore = false;
+      },
+      error: () => {
+        this.error = 'Failed to load more tasks. Please try again later.';
+        this.isLoadingMore = false;
+      }
+    });
   }
 
   onFilterChange(): void {
-    this.applyFilter();
+    this.loadTasks();
+  }
+
+  private applyChange(change: TaskChange): void {
+    if (change.type === 'RESET') {
+      this.loadTasks();
+      return;
+    }
+    const task = change.task;
+    const matches = !!task && (this.statusFilter === 'ALL' || task.status === this.statusFilter);
+    const index = this.tasks.findIndex(t => t.id === change.taskId);
+
+    if (index >= 0) {
+      this.tasks = matches
+        ? this.tasks.map(t => (t.id === change.taskId ? task! : t))
+        : this.tasks.filter(t => t.id !== change.taskId);
+    } else if (change.type === 'CREATED' && matches) {
+      // The list is newest first, so a new task belongs at the top.
+      this.tasks = [task!, ...this.tasks];
+    }
+  }
+
+  private buildQuery(): TaskQuery {
+    return this.statusFilter === 'ALL'
+      ? {}
+      : { status: this.statusFilter as TaskStatus };
   }
 
   deleteTask(id: number): void {
@@ -61,7 +117,6 @@ export class TaskListComponent implements OnInit {
       this.taskService.deleteTask(id).subscribe({
         next: () => {
           this.tasks = this.tasks.filter(task => task.id !== id);
-          this.applyFilter();
         },
         error: () => alert('Failed to delete task')
       });